@@ -0,0 +1,493 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static lt.martynassateika.language.Preconditions.checkNotNegative;
+import static lt.martynassateika.language.Preconditions.checkValueBetween;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Checks that conversion paths produce exactly the words of the original converter.
+ *
+ * <p>Every number is converted by a frozen copy of the original logic and by each {@link Engine},
+ * and the results are compared character by character. Work is split into chunks that are
+ * processed by all available cores. Each worker reuses its own buffer, so the engines and the
+ * comparison do not add allocations to the reference conversion.</p>
+ *
+ * <pre>{@code
+ * ConversionVerifier.Report report = ConversionVerifier.create()
+ *     .verifyRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+ * }</pre>
+ *
+ * <p>The {@link #main(String[])} method runs the full {@code int} range, the neighbourhoods of
+ * every power of ten and of the {@code long} limits, and a random sample of all {@code long}s.</p>
+ *
+ * @author Martynas Sateika
+ * @since 1.1
+ */
+public class ConversionVerifier {
+
+  /**
+   * Number of consecutive numbers or samples processed by a worker at a time.
+   */
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  private final Map<String, Engine> engines;
+
+  private final int threads;
+
+  private final PrintStream progress;
+
+  /**
+   * A conversion path under verification.
+   */
+  @FunctionalInterface
+  public interface Engine {
+
+    /**
+     * Appends the words for {@code number} to {@code sb}, which is empty.
+     *
+     * @param number a number
+     * @param sb string builder to append result to
+     * @return {@code false} if this engine does not handle {@code number}, which is then skipped
+     */
+    boolean append(long number, StringBuilder sb);
+
+  }
+
+  /**
+   * Returns a verifier for the default conversion paths of {@link NumberConverter#create()},
+   * using all available cores and no progress output.
+   *
+   * @return a new verifier
+   */
+  public static ConversionVerifier create() {
+    return builder().defaultEngines().build();
+  }
+
+  /**
+   * Returns a builder for verifiers of other engines.
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Internal constructor. Users should use {@link #create()} or {@link #builder()}.
+   */
+  private ConversionVerifier(Builder builder) {
+    this.engines = new LinkedHashMap<>(builder.engines);
+    this.threads = builder.threads;
+    this.progress = builder.progress;
+  }
+
+  /**
+   * Verifies all numbers from {@code first} to {@code last} (inclusive).
+   *
+   * @param first first number to verify
+   * @param last last number to verify
+   * @return report of the verification
+   * @throws IllegalArgumentException if {@code last} is less than {@code first}, or the range
+   * has more than {@code Long.MAX_VALUE} numbers
+   */
+  public Report verifyRange(long first, long last) {
+    checkValueBetween(first, Long.MAX_VALUE, last);
+    // Negative if the difference overflows
+    checkValueBetween(0, Long.MAX_VALUE - 1, last - first);
+    long size = last - first + 1;
+    return run(String.format("range [%d, %d]", first, last), size,
+        (chunk, from, to) -> null,
+        (state, index) -> first + index);
+  }
+
+  /**
+   * Verifies {@code count} numbers sampled uniformly from all {@code long}s.
+   *
+   * <p>The same {@code seed} always selects the same numbers, whatever the number of threads.</p>
+   *
+   * @param count number of samples
+   * @param seed seed of the samples
+   * @return report of the verification
+   * @throws IllegalArgumentException if {@code count} is negative
+   */
+  public Report verifySample(long count, long seed) {
+    checkNotNegative(count);
+    return run(String.format("%d samples", count), count,
+        (chunk, from, to) -> new SplittableRandom(seed + chunk),
+        (state, index) -> ((SplittableRandom) state).nextLong());
+  }
+
+  private Report run(String description, long size, ChunkState chunkState, NumberSource numbers) {
+    long chunks = size / CHUNK_SIZE + (size % CHUNK_SIZE == 0 ? 0 : 1);
+    AtomicLong nextChunk = new AtomicLong();
+    AtomicLong checked = new AtomicLong();
+    AtomicLong completedChunks = new AtomicLong();
+    // Mismatch with the lowest index so far
+    AtomicReference<Mismatch> firstMismatch = new AtomicReference<>();
+    AtomicLong firstMismatchIndex = new AtomicLong(Long.MAX_VALUE);
+
+    Runnable worker = () -> {
+      StringBuilder sb = new StringBuilder(256);
+      long chunk;
+      while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+        long from = chunk * CHUNK_SIZE;
+        long to = Math.min(size, from + CHUNK_SIZE);
+        Object state = chunkState.start(chunk, from, to);
+        long done = 0;
+        for (long index = from; index < to && index < firstMismatchIndex.get(); index++) {
+          long number = numbers.next(state, index);
+          String expected = ReferenceConverter.fromLong(number);
+          done++;
+          Mismatch mismatch = check(number, expected, sb);
+          if (mismatch != null) {
+            recordMismatch(index, mismatch, firstMismatchIndex, firstMismatch);
+            break;
+          }
+        }
+        checked.addAndGet(done);
+        reportProgress(description, completedChunks.incrementAndGet(), chunks);
+      }
+    };
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>(threads);
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(worker));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("verification interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("verification failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+    return new Report(description, checked.get(), firstMismatch.get());
+  }
+
+  /**
+   * @param number number to check
+   * @param expected words of the reference converter
+   * @param sb scratch buffer of the current worker
+   * @return the first mismatching engine's result, or {@code null} if all engines match
+   */
+  private Mismatch check(long number, String expected, StringBuilder sb) {
+    for (Map.Entry<String, Engine> engine : engines.entrySet()) {
+      sb.setLength(0);
+      if (engine.getValue().append(number, sb) && !expected.contentEquals(sb)) {
+        return new Mismatch(number, engine.getKey(), expected, sb.toString());
+      }
+    }
+    return null;
+  }
+
+  private static void recordMismatch(long index, Mismatch mismatch, AtomicLong firstMismatchIndex,
+      AtomicReference<Mismatch> firstMismatch) {
+    synchronized (firstMismatch) {
+      if (index < firstMismatchIndex.get()) {
+        firstMismatchIndex.set(index);
+        firstMismatch.set(mismatch);
+      }
+    }
+  }
+
+  private void reportProgress(String description, long completed, long chunks) {
+    // Report each whole percent once
+    if (progress != null && completed * 100 / chunks != (completed - 1) * 100 / chunks) {
+      progress.printf("%s: %d%%%n", description, completed * 100 / chunks);
+    }
+  }
+
+  /**
+   * Runs the full verification with the default engines, printing progress to standard output.
+   *
+   * <p>Arguments, all optional: number of random {@code long} samples (default 100 million), and a
+   * {@link MappedDictionary} file to verify as well. Exits with status 1 on a mismatch.</p>
+   *
+   * @param args command line arguments
+   * @throws IOException if the dictionary file cannot be read
+   */
+  public static void main(String[] args) throws IOException {
+    long samples = args.length > 0 ? Long.parseLong(args[0]) : 100_000_000L;
+    Builder builder = builder().defaultEngines().progress(System.out);
+    if (args.length > 1) {
+      MappedDictionary dictionary = MappedDictionary.open(Paths.get(args[1]));
+      builder.engine("MappedDictionary.lookup", (number, sb) -> {
+        ByteBuffer words = dictionary.lookup(number);
+        sb.append(StandardCharsets.UTF_8.decode(words));
+        return true;
+      });
+    }
+    ConversionVerifier verifier = builder.build();
+
+    List<Report> reports = new ArrayList<>();
+    reports.add(verifier.verifyRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    for (long power = 10; ; power *= 10) {
+      reports.add(verifier.verifyRange(power - 1_000, power + 1_000));
+      reports.add(verifier.verifyRange(-power - 1_000, -power + 1_000));
+      if (power > Long.MAX_VALUE / 10) {
+        break;
+      }
+    }
+    reports.add(verifier.verifyRange(Long.MAX_VALUE - 100_000, Long.MAX_VALUE));
+    reports.add(verifier.verifyRange(Long.MIN_VALUE, Long.MIN_VALUE + 100_000));
+    reports.add(verifier.verifySample(samples, 2018));
+
+    boolean passed = true;
+    for (Report report : reports) {
+      System.out.println(report);
+      passed &= report.passed();
+    }
+    System.exit(passed ? 0 : 1);
+  }
+
+  /**
+   * Prepares per-chunk state, such as a random number generator.
+   */
+  @FunctionalInterface
+  private interface ChunkState {
+
+    Object start(long chunk, long from, long to);
+
+  }
+
+  /**
+   * Returns the number at {@code index}, using state prepared by {@link ChunkState}.
+   */
+  @FunctionalInterface
+  private interface NumberSource {
+
+    long next(Object state, long index);
+
+  }
+
+  /**
+   * Outcome of a verification.
+   */
+  public static final class Report {
+
+    private final String description;
+
+    private final long checked;
+
+    private final Mismatch firstMismatch;
+
+    private Report(String description, long checked, Mismatch firstMismatch) {
+      this.description = description;
+      this.checked = checked;
+      this.firstMismatch = firstMismatch;
+    }
+
+    /**
+     * @return number of numbers converted by the reference converter
+     */
+    public long getChecked() {
+      return checked;
+    }
+
+    /**
+     * @return the mismatch for the lowest number or sample, or {@code null} if there is none
+     */
+    public Mismatch getFirstMismatch() {
+      return firstMismatch;
+    }
+
+    /**
+     * @return {@code true} if all engines matched the reference converter
+     */
+    public boolean passed() {
+      return firstMismatch == null;
+    }
+
+    @Override
+    public String toString() {
+      return passed()
+          ? String.format("%s: %d numbers match", description, checked)
+          : String.format("%s: %s", description, firstMismatch);
+    }
+
+  }
+
+  /**
+   * Words of an engine that differ from the reference converter.
+   */
+  public static final class Mismatch {
+
+    private final long number;
+
+    private final String engine;
+
+    private final String expected;
+
+    private final String actual;
+
+    private Mismatch(long number, String engine, String expected, String actual) {
+      this.number = number;
+      this.engine = engine;
+      this.expected = expected;
+      this.actual = actual;
+    }
+
+    /**
+     * @return the converted number
+     */
+    public long getNumber() {
+      return number;
+    }
+
+    /**
+     * @return name of the mismatching engine
+     */
+    public String getEngine() {
+      return engine;
+    }
+
+    /**
+     * @return words of the reference converter
+     */
+    public String getExpected() {
+      return expected;
+    }
+
+    /**
+     * @return words of the engine
+     */
+    public String getActual() {
+      return actual;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s mismatch for %d: expected \"%s\", got \"%s\"",
+          engine, number, expected, actual);
+    }
+
+  }
+
+  /**
+   * Builds {@link ConversionVerifier} instances.
+   */
+  public static final class Builder {
+
+    private final Map<String, Engine> engines = new LinkedHashMap<>();
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    private PrintStream progress;
+
+    private Builder() {
+    }
+
+    /**
+     * Adds the conversion paths of {@link NumberConverter#create()}: {@code toLithuanian},
+     * {@code appendLithuanian} and, for non-negative numbers that fit into a single digit group,
+     * {@code toLithuanianDigits}.
+     *
+     * @return this builder
+     */
+    public Builder defaultEngines() {
+      NumberConverter converter = NumberConverter.create();
+      engine("toLithuanian", (number, sb) -> {
+        sb.append(converter.toLithuanian(number));
+        return true;
+      });
+      engine("appendLithuanian", (number, sb) -> {
+        converter.appendLithuanian(number, sb);
+        return true;
+      });
+      engine("toLithuanianDigits", (number, sb) -> {
+        if (number < 0 || number >= 1_000_000_000_000_000_000L) {
+          return false;
+        }
+        sb.append(converter.toLithuanianDigits(Long.toString(number)));
+        return true;
+      });
+      return this;
+    }
+
+    /**
+     * Adds a conversion path to verify, replacing any engine of the same name.
+     *
+     * @param name name of the engine in reports
+     * @param engine the engine
+     * @return this builder
+     * @throws NullPointerException if {@code name} or {@code engine} is {@code null}
+     */
+    public Builder engine(String name, Engine engine) {
+      engines.put(Objects.requireNonNull(name, "name"), Objects.requireNonNull(engine, "engine"));
+      return this;
+    }
+
+    /**
+     * Sets the number of worker threads. Defaults to the number of available processors.
+     *
+     * @param threads number of worker threads
+     * @return this builder
+     * @throws IllegalArgumentException if {@code threads} is less than 1
+     */
+    public Builder threads(int threads) {
+      checkValueBetween(1, Integer.MAX_VALUE, threads);
+      this.threads = threads;
+      return this;
+    }
+
+    /**
+     * Sets where progress is printed, once per completed percent. Defaults to no output.
+     *
+     * @param progress stream for progress output, or {@code null} for none
+     * @return this builder
+     */
+    public Builder progress(PrintStream progress) {
+      this.progress = progress;
+      return this;
+    }
+
+    /**
+     * Returns a new verifier using the engines and options set on this builder.
+     *
+     * @return a new verifier
+     */
+    public ConversionVerifier build() {
+      return new ConversionVerifier(this);
+    }
+
+  }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static lt.martynassateika.language.Preconditions.checkValueBetween;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Converts dates and years into Lithuanian words, in the form used in contracts.
+ *
+ * <pre>{@code
+ * DateConverter converter = DateConverter.create();
+ * converter.toLithuanian(LocalDate.of(2018, 8, 19));
+ * -> "du tūkstančiai aštuonioliktų metų rugpjūčio devynioliktą dieną"
+ * }</pre>
+ *
+ * <p>Numbers are written by a {@link NumberConverter}, whose options also apply to dates. Each
+ * converter remembers the last few dates it has rendered, so rendering the same date again does
+ * not allocate. Converters may be shared between threads.</p>
+ *
+ * @author Martynas Sateika
+ * @since 1.1
+ */
+public class DateConverter {
+
+  /**
+   * Stems of ordinal numbers 1 to 19 and of multiples of 10 up to 90, indexed by number. Other
+   * entries are {@code null}.
+   */
+  private static final String[] ORDINAL_STEMS = new String[100];
+
+  static {
+    String[] oneToNineteen = {
+        null,
+        "pirm",
+        "antr",
+        "treči",
+        "ketvirt",
+        "penkt",
+        "šešt",
+        "septint",
+        "aštunt",
+        "devint",
+        "dešimt",
+        "vienuolikt",
+        "dvylikt",
+        "trylikt",
+        "keturiolikt",
+        "penkiolikt",
+        "šešiolikt",
+        "septyniolikt",
+        "aštuoniolikt",
+        "devyniolikt",
+    };
+    String[] tens = {
+        null,
+        "dešimt",
+        "dvidešimt",
+        "trisdešimt",
+        "keturiasdešimt",
+        "penkiasdešimt",
+        "šešiasdešimt",
+        "septyniasdešimt",
+        "aštuoniasdešimt",
+        "devyniasdešimt",
+    };
+    System.arraycopy(oneToNineteen, 0, ORDINAL_STEMS, 0, oneToNineteen.length);
+    for (int i = 2; i < tens.length; i++) {
+      ORDINAL_STEMS[i * 10] = tens[i];
+    }
+  }
+
+  /**
+   * Prefixes joined to "šimt-" and "tūkstant-" in ordinals of round hundreds and thousands,
+   * indexed by their count. For example, "du" makes "dutūkstantųjų".
+   */
+  private static final String[] COMPOUND_PREFIXES = {
+      null,
+      "",
+      "du",
+      "tri",
+      "ketur",
+      "penk",
+      "šeš",
+      "septyn",
+      "aštuon",
+      "devyn",
+  };
+
+  /**
+   * Genitive names of months, indexed from January.
+   */
+  private static final String[] MONTHS_GENITIVE = {
+      "sausio",
+      "vasario",
+      "kovo",
+      "balandžio",
+      "gegužės",
+      "birželio",
+      "liepos",
+      "rugpjūčio",
+      "rugsėjo",
+      "spalio",
+      "lapkričio",
+      "gruodžio",
+  };
+
+  // Ending of masculine ordinals in the genitive plural, as in "metų"
+  private static final String GENITIVE_PLURAL = "ų";
+
+  // Ending of feminine ordinals in the accusative singular, as in "dieną"
+  private static final String ACCUSATIVE_FEMININE = "ą";
+
+  /**
+   * Number of rendered dates remembered by each converter. Must be a power of two.
+   */
+  private static final int CACHE_SIZE = 64;
+
+  private final NumberConverter numberConverter;
+
+  /**
+   * Words for days 1 to 31 of a month, followed by "dieną", indexed by day.
+   */
+  private final String[] days;
+
+  /**
+   * Recently rendered dates, indexed by their epoch day modulo {@link #CACHE_SIZE}. Slots are
+   * read and replaced without locking; entries are immutable, so a reader sees either a complete
+   * entry or a missing one.
+   */
+  private final RenderedDate[] cache = new RenderedDate[CACHE_SIZE];
+
+  /**
+   * Returns a new instance of this converter, writing numbers with {@link
+   * NumberConverter#create()}.
+   *
+   * @return a new instance of this converter
+   */
+  public static DateConverter create() {
+    return create(NumberConverter.create());
+  }
+
+  /**
+   * Returns a new instance of this converter, writing numbers with {@code numberConverter}.
+   *
+   * @param numberConverter converter used for the cardinal parts of years and days
+   * @return a new instance of this converter
+   * @throws NullPointerException if {@code numberConverter} is {@code null}
+   */
+  public static DateConverter create(NumberConverter numberConverter) {
+    return new DateConverter(Objects.requireNonNull(numberConverter, "numberConverter"));
+  }
+
+  /**
+   * Internal constructor. Users should use {@link #create()} or {@link #create(NumberConverter)}.
+   */
+  private DateConverter(NumberConverter numberConverter) {
+    this.numberConverter = numberConverter;
+    this.days = new String[32];
+    for (int day = 1; day < days.length; day++) {
+      StringBuilder sb = new StringBuilder();
+      appendOrdinal(day, ACCUSATIVE_FEMININE, sb);
+      days[day] = sb.append(numberConverter.separator).append("dieną").toString();
+    }
+  }
+
+  /**
+   * Converts a date into words.
+   *
+   * <pre>{@code
+   * toLithuanian(LocalDate.of(2018, 8, 19));
+   * -> "du tūkstančiai aštuonioliktų metų rugpjūčio devynioliktą dieną"
+   *
+   * toLithuanian(LocalDate.of(2000, 1, 1));
+   * -> "dutūkstantųjų metų sausio pirmą dieną"
+   * }</pre>
+   *
+   * @param date a date
+   * @return the date in Lithuanian words
+   * @throws IllegalArgumentException if the year of {@code date} is not between 1 and 9999
+   */
+  public String toLithuanian(LocalDate date) {
+    long epochDay = date.toEpochDay();
+    int slot = (int) (epochDay & (CACHE_SIZE - 1));
+    RenderedDate cached = cache[slot];
+    if (cached != null && cached.epochDay == epochDay) {
+      return cached.words;
+    }
+    StringBuilder sb = new StringBuilder(96);
+    appendYear(date.getYear(), sb);
+    sb.append(numberConverter.separator)
+        .append(MONTHS_GENITIVE[date.getMonthValue() - 1])
+        .append(numberConverter.separator)
+        .append(days[date.getDayOfMonth()]);
+    String words = sb.toString();
+    cache[slot] = new RenderedDate(epochDay, words);
+    return words;
+  }
+
+  /**
+   * Converts a year into words.
+   *
+   * <pre>{@code
+   * yearToLithuanian(2018);
+   * -> "du tūkstančiai aštuonioliktų metų"
+   *
+   * yearToLithuanian(1993);
+   * -> "vienas tūkstantis devyni šimtai devyniasdešimt trečių metų"
+   *
+   * yearToLithuanian(2100);
+   * -> "du tūkstančiai šimtųjų metų"
+   * }</pre>
+   *
+   * @param year a year
+   * @return the year in Lithuanian words
+   * @throws IllegalArgumentException if {@code year} is not between 1 and 9999
+   */
+  public String yearToLithuanian(int year) {
+    StringBuilder sb = new StringBuilder(64);
+    appendYear(year, sb);
+    return sb.toString();
+  }
+
+  /**
+   * Appends the words for {@code year}, followed by "metų", to {@code sb}.
+   *
+   * <p>Only the last word is an ordinal. Round hundreds and thousands use the definite ordinal
+   * ("dutūkstantųjų"), as is usual for them.</p>
+   *
+   * @param year a year
+   * @param sb string builder to append result to
+   * @throws IllegalArgumentException if {@code year} is not between 1 and 9999
+   */
+  private void appendYear(int year, StringBuilder sb) {
+    checkValueBetween(1, 9999, year);
+    if (year % 100 != 0) {
+      appendOrdinal(year, GENITIVE_PLURAL, sb);
+    } else if (year % 1000 != 0) {
+      int thousands = year - year % 1000;
+      if (thousands > 0) {
+        numberConverter.appendLithuanian(thousands, sb).append(numberConverter.separator);
+      }
+      sb.append(COMPOUND_PREFIXES[year % 1000 / 100]).append("šimtųjų");
+    } else {
+      sb.append(COMPOUND_PREFIXES[year / 1000]).append("tūkstantųjų");
+    }
+    sb.append(numberConverter.separator).append("metų");
+  }
+
+  /**
+   * Appends {@code number} with its last word as an ordinal to {@code sb}.
+   *
+   * @param number a number not divisible by 100
+   * @param ending ending of the ordinal
+   * @param sb string builder to append result to
+   */
+  private void appendOrdinal(int number, String ending, StringBuilder sb) {
+    int lastTwoDigits = number % 100;
+    int ordinal = lastTwoDigits < 20 || lastTwoDigits % 10 == 0
+        ? lastTwoDigits
+        : lastTwoDigits % 10;
+    int cardinal = number - ordinal;
+    if (cardinal > 0) {
+      numberConverter.appendLithuanian(cardinal, sb).append(numberConverter.separator);
+    }
+    sb.append(ORDINAL_STEMS[ordinal]).append(ending);
+  }
+
+  /**
+   * A date and its words.
+   */
+  private static final class RenderedDate {
+
+    private final long epochDay;
+
+    private final String words;
+
+    RenderedDate(long epochDay, String words) {
+      this.epochDay = epochDay;
+      this.words = words;
+    }
+
+  }
+
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static lt.martynassateika.language.Preconditions.checkValueBetween;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A file of pre-rendered UTF-8 words for a dense range of numbers, read through a memory
+ * mapping.
+ *
+ * <p>The file is written once with {@link #write(Path, long, long, NumberConverter)}, or from the
+ * command line:</p>
+ *
+ * <pre>{@code
+ * java -cp numbers-to-lithuanian-words-converter.jar \
+ *     lt.martynassateika.language.MappedDictionary words.bin 0 10000000
+ * }</pre>
+ *
+ * <p>Any number of processes may then {@link #open(Path)} it. The mapping is backed by the
+ * operating system's page cache, so they share a single copy of the words. Lookups return slices
+ * of the mapping without copying any bytes; numbers outside the file's range are converted by a
+ * {@link NumberConverter} instead.</p>
+ *
+ * <p>File layout, big-endian:</p>
+ *
+ * <pre>
+ * int    magic ("LTNW")
+ * int    format version
+ * long   first number
+ * int    count of numbers
+ * int[]  count + 1 offsets of each number's words, relative to the start of the words
+ * byte[] words of all numbers, UTF-8 encoded, without separators
+ * </pre>
+ *
+ * @author Martynas Sateika
+ * @since 1.1
+ */
+public class MappedDictionary {
+
+  private static final int MAGIC = 0x4C544E57;
+
+  private static final int VERSION = 1;
+
+  // magic + version + first number + count
+  private static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+
+  /**
+   * Most numbers a file can hold: beyond this, the header and offsets alone do not fit into a
+   * single 2 GB mapping.
+   */
+  private static final int MAX_COUNT = (Integer.MAX_VALUE - HEADER_SIZE) / 4 - 1;
+
+  private final ByteBuffer buffer;
+
+  private final long first;
+
+  private final int count;
+
+  // Position of the first byte of words in buffer
+  private final int wordsStart;
+
+  private final NumberConverter fallback;
+
+  private MappedDictionary(ByteBuffer buffer, NumberConverter fallback) throws IOException {
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IOException("not a dictionary file");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IOException(String.format("unsupported dictionary version (%d)", buffer.getInt(4)));
+    }
+    this.buffer = buffer;
+    this.first = buffer.getLong(8);
+    this.count = buffer.getInt(16);
+    long wordsStart = HEADER_SIZE + (count + 1L) * 4;
+    if (count < 0 || wordsStart > buffer.capacity()
+        || wordsStart + buffer.getInt((int) wordsStart - 4) > buffer.capacity()) {
+      throw new IOException("truncated dictionary file");
+    }
+    this.wordsStart = (int) wordsStart;
+    this.fallback = fallback;
+  }
+
+  /**
+   * Maps a dictionary file, converting numbers outside its range with {@link
+   * NumberConverter#create()}.
+   *
+   * @param path dictionary file
+   * @return the mapped dictionary
+   * @throws IOException if the file cannot be read or is not a dictionary file
+   */
+  public static MappedDictionary open(Path path) throws IOException {
+    return open(path, NumberConverter.create());
+  }
+
+  /**
+   * Maps a dictionary file, converting numbers outside its range with {@code fallback}.
+   *
+   * <p>{@code fallback} should have the options the file was written with, so that all lookups
+   * are consistent.</p>
+   *
+   * @param path dictionary file
+   * @param fallback converter for numbers outside the file's range
+   * @return the mapped dictionary
+   * @throws IOException if the file cannot be read or is not a dictionary file
+   */
+  public static MappedDictionary open(Path path, NumberConverter fallback) throws IOException {
+    Objects.requireNonNull(fallback, "fallback");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed
+      MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+      return new MappedDictionary(buffer, fallback);
+    }
+  }
+
+  /**
+   * Returns the UTF-8 encoded words for {@code number}.
+   *
+   * <p>For numbers in the file's range, the result is a read-only view of the mapped file. For
+   * other numbers, it wraps newly converted words.</p>
+   *
+   * @param number a number
+   * @return words for the number, from position zero to the limit of the buffer
+   */
+  public ByteBuffer lookup(long number) {
+    if (!contains(number)) {
+      return ByteBuffer.wrap(fallback.toLithuanian(number).getBytes(StandardCharsets.UTF_8));
+    }
+    int offsetPosition = HEADER_SIZE + (int) (number - first) * 4;
+    int start = wordsStart + buffer.getInt(offsetPosition);
+    int end = wordsStart + buffer.getInt(offsetPosition + 4);
+    ByteBuffer words = buffer.duplicate();
+    // Cast keeps the calls binary compatible with Java 8
+    ((Buffer) words).limit(end);
+    ((Buffer) words).position(start);
+    return words.slice();
+  }
+
+  /**
+   * @param number a number
+   * @return {@code true} if the words for {@code number} are stored in the file
+   */
+  public boolean contains(long number) {
+    // Subtraction may overflow, but is then correct as an unsigned number
+    return number >= first && Long.compareUnsigned(number - first, count) < 0;
+  }
+
+  /**
+   * Writes the words for numbers {@code first} to {@code last} (inclusive) to a new dictionary
+   * file.
+   *
+   * <p>The file is written under a temporary name in the same directory and then atomically moved
+   * to {@code path}. An existing file is replaced, not rewritten in place, so processes that have
+   * it mapped keep reading the old contents until they open the file again. The new file keeps the
+   * permissions of the file it replaces, or gets the default permissions of new files.</p>
+   *
+   * @param path file to write
+   * @param first first number in the file
+   * @param last last number in the file
+   * @param converter converter writing the words
+   * @throws IOException if the file cannot be written, or cannot be moved atomically
+   * @throws IllegalArgumentException if the range is empty or has more than 536,870,905 numbers,
+   * whose offsets alone fill a file of 2 GB
+   * @throws IllegalStateException if the words do not fit into a file of 2 GB
+   */
+  public static void write(Path path, long first, long last, NumberConverter converter)
+      throws IOException {
+    checkValueBetween(first, Long.MAX_VALUE, last);
+    // Checked before allocating the offsets; negative if the difference overflows
+    checkValueBetween(0, MAX_COUNT - 1, last - first);
+    int count = (int) (last - first + 1);
+    long wordsStart = HEADER_SIZE + (count + 1) * 4L;
+    int[] offsets = new int[count + 1];
+
+    CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    StringBuilder sb = new StringBuilder(256);
+    ByteBuffer bytes = ByteBuffer.allocate(1 << 16);
+
+    Path target = path.toAbsolutePath();
+    Path temporary = createTemporary(target);
+    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+      channel.position(wordsStart);
+      long written = 0;
+      for (int i = 0; i < count; i++) {
+        offsets[i] = (int) written;
+        sb.setLength(0);
+        converter.appendLithuanian(first + i, sb);
+        int before = bytes.position();
+        CoderResult result = encoder.reset().encode(CharBuffer.wrap(sb), bytes, true);
+        if (result.isOverflow()) {
+          // Not enough room left for this number; flush and encode it again
+          ((Buffer) bytes).position(before);
+          flush(bytes, channel);
+          before = 0;
+          result = encoder.reset().encode(CharBuffer.wrap(sb), bytes, true);
+        }
+        if (!result.isUnderflow()) {
+          throw new IllegalStateException(
+              String.format("cannot encode words for number (%d)", first + i));
+        }
+        written += bytes.position() - before;
+        if (wordsStart + written > Integer.MAX_VALUE) {
+          throw new IllegalStateException(
+              String.format("dictionary larger than 2 GB at number (%d)", first + i));
+        }
+      }
+      offsets[count] = (int) written;
+      flush(bytes, channel);
+
+      ByteBuffer header = ByteBuffer.allocate((int) wordsStart);
+      header.putInt(MAGIC).putInt(VERSION).putLong(first).putInt(count);
+      header.asIntBuffer().put(offsets);
+      ((Buffer) header).clear();
+      long position = 0;
+      while (header.hasRemaining()) {
+        position += channel.write(header, position);
+      }
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(temporary);
+      throw e;
+    }
+    try {
+      copyPermissions(target, temporary);
+      Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /**
+   * Creates an empty file next to {@code target}, with the default permissions of new files.
+   *
+   * <p>Unlike {@link Files#createTempFile}, which makes files readable by their owner only, this
+   * leaves the dictionary readable by the processes of other users where the umask allows it.</p>
+   *
+   * @param target file the temporary file will replace
+   * @return the temporary file
+   * @throws IOException if the file cannot be created
+   */
+  private static Path createTemporary(Path target) throws IOException {
+    while (true) {
+      Path temporary = target.resolveSibling(String.format("%s.%s.tmp", target.getFileName(),
+          Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36)));
+      try {
+        return Files.createFile(temporary);
+      } catch (FileAlreadyExistsException e) {
+        // Try another name
+      }
+    }
+  }
+
+  /**
+   * Gives {@code temporary} the POSIX permissions of {@code target}, if it exists and the file
+   * system supports them, so that replacing a dictionary keeps its permissions.
+   *
+   * @param target file about to be replaced
+   * @param temporary file replacing it
+   * @throws IOException if the permissions cannot be read or set
+   */
+  private static void copyPermissions(Path target, Path temporary) throws IOException {
+    if (Files.exists(target)
+        && Files.getFileAttributeView(target, PosixFileAttributeView.class) != null) {
+      Files.setPosixFilePermissions(temporary, Files.getPosixFilePermissions(target));
+    }
+  }
+
+  private static void flush(ByteBuffer bytes, FileChannel channel) throws IOException {
+    ((Buffer) bytes).flip();
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+    ((Buffer) bytes).clear();
+  }
+
+  /**
+   * Writes a dictionary file with the default converter options.
+   *
+   * <p>Arguments: file to write, first number, last number (inclusive).</p>
+   *
+   * @param args command line arguments
+   * @throws IOException if the file cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      System.err.println("Usage: MappedDictionary <file> <first number> <last number>");
+      System.exit(1);
+    }
+    write(Paths.get(args[0]), Long.parseLong(args[1]), Long.parseLong(args[2]),
+        NumberConverter.create());
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import java.util.Objects;
+
+/**
+ * The three forms a Lithuanian noun takes after a number.
+ *
+ * <pre>{@code
+ * NounForms days = NounForms.feminine("diena", "dienos", "dienų");
+ * days.forCount(1);  -> "diena"
+ * days.forCount(2);  -> "dienos"
+ * days.forCount(10); -> "dienų"
+ * days.forCount(21); -> "diena"
+ * }</pre>
+ *
+ * <p>Instances are immutable. Use {@link NumberConverter#toLithuanian(long, NounForms)} to render
+ * a number together with its agreeing noun.</p>
+ *
+ * @author Martynas Sateika
+ * @since 1.1
+ */
+public final class NounForms {
+
+  private static final int SINGULAR = 0;
+
+  private static final int PLURAL = 1;
+
+  private static final int PLURAL_2 = 2;
+
+  /**
+   * Index of the form to use, by the last two digits of the count.
+   */
+  private static final byte[] FORM_BY_LAST_TWO_DIGITS = new byte[100];
+
+  static {
+    for (int lastTwoDigits = 0; lastTwoDigits < 100; lastTwoDigits++) {
+      int lastDigit = lastTwoDigits % 10;
+      if (lastTwoDigits > 10 && lastTwoDigits < 20) {
+        // 11 to 19
+        FORM_BY_LAST_TWO_DIGITS[lastTwoDigits] = PLURAL_2;
+      } else if (lastDigit == 0) {
+        // Shares form with 11-19
+        FORM_BY_LAST_TWO_DIGITS[lastTwoDigits] = PLURAL_2;
+      } else if (lastDigit == 1) {
+        FORM_BY_LAST_TWO_DIGITS[lastTwoDigits] = SINGULAR;
+      } else {
+        FORM_BY_LAST_TWO_DIGITS[lastTwoDigits] = PLURAL;
+      }
+    }
+  }
+
+  // Forms indexed by SINGULAR, PLURAL and PLURAL_2
+  private final String[] forms;
+
+  // Whether numbers counting this noun take their feminine form
+  private final boolean feminine;
+
+  private NounForms(boolean feminine, String singularForm, String pluralForm,
+      String pluralForm2) {
+    this.feminine = feminine;
+    this.forms = new String[]{
+        Objects.requireNonNull(singularForm, "singularForm"),
+        Objects.requireNonNull(pluralForm, "pluralForm"),
+        Objects.requireNonNull(pluralForm2, "pluralForm2"),
+    };
+  }
+
+  /**
+   * Returns the forms of a masculine noun, such as "vienetas", "vienetai", "vienetų".
+   *
+   * @param singularForm form used with 1, 21, 31, ... ("vienetas")
+   * @param pluralForm form used with 2 to 9, 22 to 29, ... ("vienetai")
+   * @param pluralForm2 form used with 0, 10 to 20, 30, ... ("vienetų")
+   * @return forms of the noun
+   * @throws NullPointerException if any of the forms is {@code null}
+   */
+  public static NounForms masculine(String singularForm, String pluralForm, String pluralForm2) {
+    return new NounForms(false, singularForm, pluralForm, pluralForm2);
+  }
+
+  /**
+   * Returns the forms of a feminine noun, such as "diena", "dienos", "dienų".
+   *
+   * <p>Numbers counting a feminine noun end in their feminine form: "viena diena", "dvi
+   * dienos".</p>
+   *
+   * @param singularForm form used with 1, 21, 31, ... ("diena")
+   * @param pluralForm form used with 2 to 9, 22 to 29, ... ("dienos")
+   * @param pluralForm2 form used with 0, 10 to 20, 30, ... ("dienų")
+   * @return forms of the noun
+   * @throws NullPointerException if any of the forms is {@code null}
+   */
+  public static NounForms feminine(String singularForm, String pluralForm, String pluralForm2) {
+    return new NounForms(true, singularForm, pluralForm, pluralForm2);
+  }
+
+  /**
+   * Returns the form of this noun that agrees with {@code count}.
+   *
+   * <p>Negative counts take the same form as their absolute value.</p>
+   *
+   * @param count any count
+   * @return the agreeing form
+   */
+  public String forCount(long count) {
+    return forms[formIndex(count)];
+  }
+
+  /**
+   * Returns whether numbers counting this noun take their feminine form.
+   *
+   * @return {@code true} if this noun is feminine
+   */
+  public boolean isFeminine() {
+    return feminine;
+  }
+
+  /**
+   * @param count any count
+   * @return index of the form agreeing with {@code count}
+   */
+  private static int formIndex(long count) {
+    // The remainder has the sign of count, and is never out of range of its absolute value
+    int lastTwoDigits = (int) (count % 100);
+    return FORM_BY_LAST_TWO_DIGITS[lastTwoDigits < 0 ? -lastTwoDigits : lastTwoDigits];
+  }
+
+}
@@ -18,6 +18,8 @@ package lt.martynassateika.language;
 
 import static lt.martynassateika.language.Preconditions.checkValueBetween;
 
+import java.util.Objects;
+
 /**
  * Converts numbers into Lithuanian words.
  *
@@ -29,6 +31,9 @@ import static lt.martynassateika.language.Preconditions.checkValueBetween;
  *
  * <p>The converter can then operate on any {@code long}. See {@link #toLithuanian(long)}.</p>
  *
+ * <p>Converters with other options, such as a different word for negative numbers, are set up
+ * using {@link #builder()}. Converters are immutable and may be shared between threads.</p>
+ *
  * @author Martynas Sateika
  * @since 1.0
  */
@@ -37,7 +42,7 @@ public class NumberConverter {
   /**
    * Cached words representing numbers 0 to 19.
    */
-  private static String[] ZERO_TO_NINETEEN = {
+  private static final String[] ZERO_TO_NINETEEN = {
       "nulis",
       "vienas",
       "du",
@@ -60,10 +65,26 @@ public class NumberConverter {
       "devyniolika",
   };
 
+  /**
+   * Cached feminine words representing numbers 0 to 9, used when counting feminine nouns.
+   */
+  private static String[] ZERO_TO_NINE_FEMININE = {
+      ZERO_TO_NINETEEN[0],
+      "viena",
+      "dvi",
+      ZERO_TO_NINETEEN[3],
+      "keturios",
+      "penkios",
+      "šešios",
+      "septynios",
+      "aštuonios",
+      "devynios",
+  };
+
   /**
    * Cached words representing multiples of 10, from 0 to 90.
    */
-  private static String[] TENS = {
+  private static final String[] TENS = {
       ZERO_TO_NINETEEN[0],
       ZERO_TO_NINETEEN[10],
       "dvidešimt",
@@ -77,18 +98,103 @@ public class NumberConverter {
   };
 
   /**
-   * Returns a new instance of this converter.
+   * Scales that are rendered as "count + scale word" groups, largest first. Hundreds are not
+   * listed as they are part of the pre-compiled 0 to 999 table.
+   */
+  static final Scale[] GROUP_SCALES = {
+      Scale.QUINTILLION,
+      Scale.QUADRILLION,
+      Scale.TRILLION,
+      Scale.BILLION,
+      Scale.MILLION,
+      Scale.THOUSAND,
+  };
+
+  /**
+   * Largest number of digits read as a single group by {@link #toLithuanianDigits(CharSequence,
+   * int)}. Any group of this many digits fits into a {@code long}.
+   */
+  public static final int MAX_DIGIT_GROUP = 18;
+
+  /**
+   * Converter with default options, returned by {@link #create()}. Declared after the word tables
+   * it is compiled from.
+   */
+  private static final NumberConverter DEFAULT = builder().build();
+
+  /**
+   * Words for numbers 0 to 999, compiled for this converter's options.
+   */
+  private final String[] upToOneThousand;
+
+  /**
+   * Words for numbers 0 to 999 counting a feminine noun, compiled for this converter's options.
+   */
+  private final String[] upToOneThousandFeminine;
+
+  /**
+   * Words placed before a scale word for counts 0 to 999, including the trailing separator.
+   */
+  private final String[] scaleCounts;
+
+  /**
+   * Word used in front of negative numbers, followed by the separator.
+   */
+  private final String minusPrefix;
+
+  // String placed between words, also used by DateConverter
+  final String separator;
+
+  /**
+   * Returns a converter with default options.
+   *
+   * <p>Converters are immutable, so the same instance, compiled once, is returned on every
+   * call.</p>
    *
-   * @return a new instance of this converter
+   * @return a converter with default options
+   * @see #builder()
    */
   public static NumberConverter create() {
-    return new NumberConverter();
+    return DEFAULT;
+  }
+
+  /**
+   * Returns a builder for converters with non-default options.
+   *
+   * <pre>{@code
+   * NumberConverter converter = NumberConverter.builder()
+   *     .omitLeadingOne(true)
+   *     .build();
+   * converter.toLithuanian(123);
+   * -> "šimtas dvidešimt trys"
+   * }</pre>
+   *
+   * @return a new builder
+   * @since 1.1
+   */
+  public static Builder builder() {
+    return new Builder();
   }
 
   /**
-   * Internal constructor. Users should use {@link #create()}.
+   * Internal constructor. Users should use {@link #create()} or {@link #builder()}.
+   *
+   * <p>All options are compiled into word tables here, so that conversion does not need to
+   * consult them again.</p>
    */
-  private NumberConverter() {
+  private NumberConverter(Builder builder) {
+    this.separator = builder.separator;
+    this.minusPrefix = builder.minusWord + builder.separator;
+    this.upToOneThousand = compileUpToOneThousand(
+        builder.omitLeadingOne, builder.separator, ZERO_TO_NINETEEN);
+    this.upToOneThousandFeminine = compileUpToOneThousand(
+        builder.omitLeadingOne, builder.separator, ZERO_TO_NINE_FEMININE);
+    this.scaleCounts = new String[upToOneThousand.length];
+    for (int count = 0; count < scaleCounts.length; count++) {
+      scaleCounts[count] = count == 1 && builder.omitLeadingOne
+          ? ""
+          : upToOneThousand[count] + builder.separator;
+    }
   }
 
   /**
@@ -115,113 +221,375 @@ public class NumberConverter {
    *     šimtai septyniasdešimt penki tūkstančiai aštuoni šimtai septyni"
    * }</pre>
    *
+   * <p>The examples above use the default options, see {@link Builder} for alternatives.</p>
+   *
    * @param number a number
    * @return string representation of the number
    */
   public String toLithuanian(long number) {
-    return fromLong(number);
+    if (number >= 0 && number < upToOneThousand.length) {
+      return upToOneThousand[(int) number];
+    }
+    StringBuilder sb = new StringBuilder();
+    append(number, upToOneThousand, sb);
+    return sb.toString();
+  }
+
+  /**
+   * Converts a count into words followed by the form of {@code noun} that agrees with it.
+   *
+   * <pre>{@code
+   * NounForms days = NounForms.feminine("diena", "dienos", "dienų");
+   * toLithuanian(21, days);
+   * -> "dvidešimt viena diena"
+   *
+   * toLithuanian(1002, days);
+   * -> "vienas tūkstantis dvi dienos"
+   * }</pre>
+   *
+   * @param count a count
+   * @param noun the counted noun
+   * @return string representation of the count and the noun
+   * @since 1.1
+   */
+  public String toLithuanian(long count, NounForms noun) {
+    return appendLithuanian(count, noun, new StringBuilder()).toString();
   }
 
-  private static String fromLong(final long number) {
+  /**
+   * Appends the words for {@code number} to {@code sb}, as {@link #toLithuanian(long)} would
+   * return them.
+   *
+   * @param number a number
+   * @param sb string builder to append result to
+   * @return {@code sb}
+   * @since 1.1
+   */
+  public StringBuilder appendLithuanian(long number, StringBuilder sb) {
+    append(number, upToOneThousand, sb);
+    return sb;
+  }
+
+  /**
+   * Appends the words for {@code count} and the agreeing form of {@code noun} to {@code sb}, as
+   * {@link #toLithuanian(long, NounForms)} would return them.
+   *
+   * @param count a count
+   * @param noun the counted noun
+   * @param sb string builder to append result to
+   * @return {@code sb}
+   * @since 1.1
+   */
+  public StringBuilder appendLithuanian(long count, NounForms noun, StringBuilder sb) {
+    append(count, noun.isFeminine() ? upToOneThousandFeminine : upToOneThousand, sb);
+    return sb.append(separator).append(noun.forCount(count));
+  }
+
+  /**
+   * Appends the words for {@code number} to {@code sb}.
+   *
+   * @param number a number
+   * @param lastGroup words for the last three digits of the number, which agree with the counted
+   * noun, if any
+   * @param sb string builder to append result to
+   */
+  private void append(final long number, String[] lastGroup, StringBuilder sb) {
     if (number == Long.MIN_VALUE) {
       // -9223372036854775808
-      return fromLong(-9223372036854775800L) + ' ' + ZERO_TO_NINETEEN[8];
+      append(-9223372036854775800L, lastGroup, sb);
+      sb.append(separator).append(lastGroup[8]);
+      return;
     }
 
-    if (number < 0) {
-      return "minus " + fromLong(-number);
+    long remainder = number;
+    if (remainder < 0) {
+      sb.append(minusPrefix);
+      remainder = -remainder;
     }
 
-    if (number < ZERO_TO_NINETEEN.length) {
-      return ZERO_TO_NINETEEN[(int) number];
+    if (remainder == 0) {
+      // The word for zero is printed only if zero is supplied.
+      sb.append(lastGroup[0]);
+      return;
     }
 
-    StringBuilder sb = new StringBuilder();
+    // Nothing has been written for this number before this position
+    int start = sb.length();
 
     // A long can be over 9 quintillion
-    long remainder = number;
-    remainder = formatScale(remainder, Scale.QUINTILLION, sb);
-    remainder = formatScale(remainder, Scale.QUADRILLION, sb);
-    remainder = formatScale(remainder, Scale.TRILLION, sb);
-    remainder = formatScale(remainder, Scale.BILLION, sb);
-    remainder = formatScale(remainder, Scale.MILLION, sb);
-    remainder = formatScale(remainder, Scale.THOUSAND, sb);
-    remainder = formatScale(remainder, Scale.HUNDRED, sb);
+    for (int i = 0; i < GROUP_SCALES.length; i++) {
+      long scaleValue = GROUP_SCALES[i].getAsLong();
+      if (remainder >= scaleValue) {
+        int count = (int) (remainder / scaleValue);
+        if (sb.length() > start) {
+          sb.append(separator);
+        }
+        sb.append(scaleCounts[count]).append(GROUP_SCALES[i].forms.forCount(count));
+        remainder -= count * scaleValue;
+      }
+    }
     if (remainder > 0) {
-      // The word for zero is printed only if zero is supplied.
-      // That case is handled near the start of this method.
-      sb.append(upToOneHundred((int) remainder));
+      if (sb.length() > start) {
+        sb.append(separator);
+      }
+      sb.append(lastGroup[(int) remainder]);
     }
+  }
 
-    return sb.toString().trim();
+  /**
+   * Reads a string of digits aloud in the groups it is written in, such as an account or a phone
+   * number.
+   *
+   * <p>Equivalent to {@link #toLithuanianDigits(CharSequence, int)} with a group size of {@link
+   * #MAX_DIGIT_GROUP}, so only separators and non-digits end a group.</p>
+   *
+   * <pre>{@code
+   * toLithuanianDigits("LT12 1000 0111");
+   * -> "LT dvylika vienas tūkstantis nulis vienas šimtas vienuolika"
+   * }</pre>
+   *
+   * @param text digits to read
+   * @return the digits in Lithuanian words
+   * @since 1.1
+   */
+  public String toLithuanianDigits(CharSequence text) {
+    return toLithuanianDigits(text, MAX_DIGIT_GROUP);
   }
 
   /**
-   * Returns the input number without the {@code scale} part, and appends the translation of the
-   * {@code scale} part of {@code number} to {@code sb}.
+   * Reads a string of digits aloud in groups of at most {@code groupSize} digits.
    *
-   * For example, if {@code scale} is {@link Scale#THOUSAND}, and the number is {@code 2018}, then
-   * the translation of {@code 2000} will be appended to {@code sb}, and {@code 18} will be
-   * returned.
+   * <p>The text is read from left to right without being parsed as a whole, so it may be longer
+   * than a {@code long} allows. Each run of digits is cut into groups of {@code groupSize} digits
+   * (the last group may be shorter), and each group is read as a number. Leading zeros of a group
+   * are significant and are each read as "nulis". Whitespace and the punctuation phone numbers
+   * and codes are written with ({@code + - . / ( )}) end a group and are otherwise skipped. Any
+   * other characters, such as a country code, are copied as a separate word.</p>
    *
-   * If there is output, an additional space character is appended.
+   * <pre>{@code
+   * toLithuanianDigits("LT12 1000 0111", 2);
+   * -> "LT dvylika dešimt nulis nulis nulis vienas vienuolika"
    *
-   * @param number a non-negative number
-   * @param scale the scale we're searching for in {@code number}
-   * @param sb string builder to append result to
-   * @return the remainder
+   * toLithuanianDigits("+370-600-12345");
+   * -> "trys šimtai septyniasdešimt šeši šimtai dvylika tūkstančių trys šimtai keturiasdešimt
+   *     penki"
+   *
+   * toLithuanianDigits("0700", 4);
+   * -> "nulis septyni šimtai"
+   * }</pre>
+   *
+   * @param text digits to read
+   * @param groupSize maximum number of digits read as one number
+   * @return the digits in Lithuanian words
+   * @throws IllegalArgumentException if {@code groupSize} is less than 1 or greater than {@link
+   * #MAX_DIGIT_GROUP}
+   * @since 1.1
    */
-  private static long formatScale(long number, Scale scale, StringBuilder sb) {
-    long scaleValue = scale.getAsLong();
-    if (number >= scaleValue) {
-      int count = (int) (number / scaleValue);
-      sb.append(upToOneThousand(count));
-      sb.append(' ');
-      sb.append(scale.formForCount(count));
-      sb.append(' ');
-      return number - count * scaleValue;
+  public String toLithuanianDigits(CharSequence text, int groupSize) {
+    checkValueBetween(1, MAX_DIGIT_GROUP, groupSize);
+    StringBuilder sb = new StringBuilder(text.length() * 8);
+    int length = text.length();
+    int position = 0;
+    while (position < length) {
+      char c = text.charAt(position);
+      if (isGroupSeparator(c)) {
+        position++;
+        continue;
+      }
+      if (sb.length() > 0) {
+        sb.append(separator);
+      }
+      int end = position + 1;
+      if (isDigit(c)) {
+        int limit = Math.min(length, position + groupSize);
+        while (end < limit && isDigit(text.charAt(end))) {
+          end++;
+        }
+        appendDigitGroup(text, position, end, sb);
+      } else {
+        while (end < length && !isDigit(text.charAt(end))
+            && !isGroupSeparator(text.charAt(end))) {
+          end++;
+        }
+        sb.append(text, position, end);
+      }
+      position = end;
     }
-    return number;
+    return sb.toString();
   }
 
   /**
-   * @param number number to convert
-   * @return the number in Lithuanian words
-   * @throws IllegalArgumentException if {@code number} is negative or greater than 999
+   * Appends the words for the digits {@code text[from, to)}, reading each leading zero as
+   * "nulis".
+   *
+   * @param text text containing the group
+   * @param from index of the first digit of the group
+   * @param to index after the last digit of the group, at most {@link #MAX_DIGIT_GROUP} after
+   * {@code from}
+   * @param sb string builder to append result to
    */
-  private static String upToOneThousand(final int number) {
-    checkValueBetween(0, 999, number);
-    if (number < ZERO_TO_NINETEEN.length) {
-      return ZERO_TO_NINETEEN[number];
+  private void appendDigitGroup(CharSequence text, int from, int to, StringBuilder sb) {
+    int position = from;
+    // The last digit is read as part of the number even if it is zero
+    while (position < to - 1 && text.charAt(position) == '0') {
+      sb.append(upToOneThousand[0]).append(separator);
+      position++;
+    }
+    long value = 0;
+    for (; position < to; position++) {
+      value = value * 10 + (text.charAt(position) - '0');
+    }
+    if (value < upToOneThousand.length) {
+      sb.append(upToOneThousand[(int) value]);
     } else {
-      StringBuilder sb = new StringBuilder();
-      // Format hundreds and return remainder
-      int withoutHundreds = (int) formatScale(number, Scale.HUNDRED, sb);
-      if (withoutHundreds > 0) {
-        sb.append(upToOneHundred(withoutHundreds));
-      }
-      return sb.toString().trim();
+      append(value, upToOneThousand, sb);
     }
   }
 
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
   /**
-   * @param number number to convert
-   * @return the number in Lithuanian words
-   * @throws IllegalArgumentException if {@code number} is negative or greater than 99
+   * @param c a character
+   * @return {@code true} if {@code c} separates digit groups without being read aloud
    */
-  private static String upToOneHundred(final int number) {
-    checkValueBetween(0, 99, number);
-    if (number < ZERO_TO_NINETEEN.length) {
-      return ZERO_TO_NINETEEN[number];
-    } else {
-      int tens = number / 10;
-      int last = number % 10;
-      if (last > 0) {
-        return TENS[tens] + ' ' + ZERO_TO_NINETEEN[last];
+  private static boolean isGroupSeparator(char c) {
+    switch (c) {
+      case '+':
+      case '-':
+      case '.':
+      case '/':
+      case '(':
+      case ')':
+        return true;
+      default:
+        return Character.isWhitespace(c);
+    }
+  }
+
+  /**
+   * Read-only access to the words for numbers 0 to 19, for other classes of this package.
+   *
+   * @param number a number from 0 to 19
+   * @return the word for {@code number}
+   */
+  static String zeroToNineteen(int number) {
+    return ZERO_TO_NINETEEN[number];
+  }
+
+  /**
+   * Read-only access to the words for multiples of 10, for other classes of this package.
+   *
+   * @param tens the number of tens, from 0 to 9
+   * @return the word for {@code tens * 10}
+   */
+  static String tens(int tens) {
+    return TENS[tens];
+  }
+
+  /**
+   * Builds the words for numbers 0 to 999.
+   *
+   * @param omitLeadingOne whether "vienas" is left out in front of "šimtas"
+   * @param separator string placed between words
+   * @param units words for numbers 0 to 9 when they are the last word
+   * @return words for numbers 0 to 999, indexed by number
+   */
+  private static String[] compileUpToOneThousand(boolean omitLeadingOne, String separator,
+      String[] units) {
+    String[] words = new String[1000];
+    for (int number = 0; number < words.length; number++) {
+      if (number < 10) {
+        words[number] = units[number];
+      } else if (number < ZERO_TO_NINETEEN.length) {
+        words[number] = ZERO_TO_NINETEEN[number];
+      } else if (number < 100) {
+        int last = number % 10;
+        words[number] = last > 0
+            ? TENS[number / 10] + separator + units[last]
+            : TENS[number / 10];
       } else {
-        return TENS[tens];
+        int hundreds = number / 100;
+        int withoutHundreds = number % 100;
+        String prefix = hundreds == 1 && omitLeadingOne
+            ? Scale.HUNDRED.singularForm
+            : ZERO_TO_NINETEEN[hundreds] + separator + Scale.HUNDRED.formForCount(hundreds);
+        words[number] = withoutHundreds > 0
+            ? prefix + separator + words[withoutHundreds]
+            : prefix;
       }
     }
+    return words;
+  }
+
+  /**
+   * Builds {@link NumberConverter} instances with non-default options.
+   *
+   * <p>Each call to {@link #build()} compiles the options into the converter's own word tables, so
+   * the options cost nothing when converting.</p>
+   *
+   * @since 1.1
+   */
+  public static final class Builder {
+
+    private boolean omitLeadingOne = false;
+
+    private String minusWord = "minus";
+
+    private String separator = " ";
+
+    private Builder() {
+    }
+
+    /**
+     * Sets whether "vienas" is left out when a scale word is counted by exactly one.
+     *
+     * <p>For example, with this option {@code 123} becomes "šimtas dvidešimt trys" and {@code
+     * 1000} becomes "tūkstantis". Counts that merely end in one keep the word: {@code 101000} is
+     * still "šimtas vienas tūkstantis". Defaults to {@code false}.</p>
+     *
+     * @param omitLeadingOne whether to leave out "vienas" in front of a single scale word
+     * @return this builder
+     */
+    public Builder omitLeadingOne(boolean omitLeadingOne) {
+      this.omitLeadingOne = omitLeadingOne;
+      return this;
+    }
+
+    /**
+     * Sets the word written in front of negative numbers. Defaults to "minus".
+     *
+     * @param minusWord word for negative numbers
+     * @return this builder
+     * @throws NullPointerException if {@code minusWord} is {@code null}
+     */
+    public Builder minusWord(String minusWord) {
+      this.minusWord = Objects.requireNonNull(minusWord, "minusWord");
+      return this;
+    }
+
+    /**
+     * Sets the string placed between words. Defaults to a single space.
+     *
+     * @param separator string placed between words
+     * @return this builder
+     * @throws NullPointerException if {@code separator} is {@code null}
+     */
+    public Builder separator(String separator) {
+      this.separator = Objects.requireNonNull(separator, "separator");
+      return this;
+    }
+
+    /**
+     * Returns a new converter using the options set on this builder.
+     *
+     * @return a new converter
+     */
+    public NumberConverter build() {
+      return new NumberConverter(this);
+    }
+
   }
 
 }
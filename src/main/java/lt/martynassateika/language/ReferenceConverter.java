@@ -0,0 +1,247 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static lt.martynassateika.language.Preconditions.checkNotNegative;
+import static lt.martynassateika.language.Preconditions.checkValueBetween;
+
+/**
+ * A frozen copy of the original {@link NumberConverter} logic, used as the reference by {@link
+ * ConversionVerifier}.
+ *
+ * <p>This class must not be changed to follow later changes of the converter. It keeps its own
+ * copies of all words and scale values, so that changes to {@link Scale} do not reach it either.
+ * Its output is the output every conversion path with default options has to reproduce.</p>
+ *
+ * @author Martynas Sateika
+ * @since 1.1
+ */
+final class ReferenceConverter {
+
+  /**
+   * Cached words representing numbers 0 to 19.
+   */
+  private static String[] ZERO_TO_NINETEEN = {
+      "nulis",
+      "vienas",
+      "du",
+      "trys",
+      "keturi",
+      "penki",
+      "šeši",
+      "septyni",
+      "aštuoni",
+      "devyni",
+      "dešimt",
+      "vienuolika",
+      "dvylika",
+      "trylika",
+      "keturiolika",
+      "penkiolika",
+      "šešiolika",
+      "septyniolika",
+      "aštuoniolika",
+      "devyniolika",
+  };
+
+  /**
+   * Cached words representing multiples of 10, from 0 to 90.
+   */
+  private static String[] TENS = {
+      ZERO_TO_NINETEEN[0],
+      ZERO_TO_NINETEEN[10],
+      "dvidešimt",
+      "trisdešimt",
+      "keturiasdešimt",
+      "penkiasdešimt",
+      "šešiasdešimt",
+      "septyniasdešimt",
+      "aštuoniasdešimt",
+      "devyniasdešimt"
+  };
+
+  // Indices of scales in SCALE_VALUES and SCALE_FORMS
+  private static final int HUNDRED = 0;
+  private static final int THOUSAND = 1;
+  private static final int MILLION = 2;
+  private static final int BILLION = 3;
+  private static final int TRILLION = 4;
+  private static final int QUADRILLION = 5;
+  private static final int QUINTILLION = 6;
+
+  /**
+   * Copy of the numerical values of {@code Scale}, indexed by the constants above.
+   */
+  private static final long[] SCALE_VALUES = {
+      100L,
+      1_000L,
+      1_000_000L,
+      1_000_000_000L,
+      1_000_000_000_000L,
+      1_000_000_000_000_000L,
+      1_000_000_000_000_000_000L,
+  };
+
+  /**
+   * Copy of the singular form, plural form, and plural form used with 11 to 19 or multiples of 10
+   * of {@code Scale}, indexed by the constants above.
+   */
+  private static final String[][] SCALE_FORMS = {
+      {"šimtas", "šimtai", "šimtų"},
+      {"tūkstantis", "tūkstančiai", "tūkstančių"},
+      {"milijonas", "milijonai", "milijonų"},
+      {"milijardas", "milijardai", "milijardų"},
+      {"trilijonas", "trilijonai", "trilijonų"},
+      {"kvadrilijonas", "kvadrilijonai", "kvadrilijonų"},
+      {"kvintilijonas", "kvintilijonai", "kvintilijonų"},
+  };
+
+  private ReferenceConverter() {
+  }
+
+  /**
+   * @param number a number
+   * @return string representation of the number
+   */
+  static String fromLong(final long number) {
+    if (number == Long.MIN_VALUE) {
+      // -9223372036854775808
+      return fromLong(-9223372036854775800L) + ' ' + ZERO_TO_NINETEEN[8];
+    }
+
+    if (number < 0) {
+      return "minus " + fromLong(-number);
+    }
+
+    if (number < ZERO_TO_NINETEEN.length) {
+      return ZERO_TO_NINETEEN[(int) number];
+    }
+
+    StringBuilder sb = new StringBuilder();
+
+    // A long can be over 9 quintillion
+    long remainder = number;
+    remainder = formatScale(remainder, QUINTILLION, sb);
+    remainder = formatScale(remainder, QUADRILLION, sb);
+    remainder = formatScale(remainder, TRILLION, sb);
+    remainder = formatScale(remainder, BILLION, sb);
+    remainder = formatScale(remainder, MILLION, sb);
+    remainder = formatScale(remainder, THOUSAND, sb);
+    remainder = formatScale(remainder, HUNDRED, sb);
+    if (remainder > 0) {
+      // The word for zero is printed only if zero is supplied.
+      // That case is handled near the start of this method.
+      sb.append(upToOneHundred((int) remainder));
+    }
+
+    return sb.toString().trim();
+  }
+
+  /**
+   * Returns the input number without the {@code scale} part, and appends the translation of the
+   * {@code scale} part of {@code number} to {@code sb}.
+   *
+   * For example, if {@code scale} is {@link #THOUSAND}, and the number is {@code 2018}, then
+   * the translation of {@code 2000} will be appended to {@code sb}, and {@code 18} will be
+   * returned.
+   *
+   * If there is output, an additional space character is appended.
+   *
+   * @param number a non-negative number
+   * @param scale index of the scale we're searching for in {@code number}
+   * @param sb string builder to append result to
+   * @return the remainder
+   */
+  private static long formatScale(long number, int scale, StringBuilder sb) {
+    long scaleValue = SCALE_VALUES[scale];
+    if (number >= scaleValue) {
+      int count = (int) (number / scaleValue);
+      sb.append(upToOneThousand(count));
+      sb.append(' ');
+      sb.append(formForCount(scale, count));
+      sb.append(' ');
+      return number - count * scaleValue;
+    }
+    return number;
+  }
+
+  /**
+   * @param number number to convert
+   * @return the number in Lithuanian words
+   * @throws IllegalArgumentException if {@code number} is negative or greater than 999
+   */
+  private static String upToOneThousand(final int number) {
+    checkValueBetween(0, 999, number);
+    if (number < ZERO_TO_NINETEEN.length) {
+      return ZERO_TO_NINETEEN[number];
+    } else {
+      StringBuilder sb = new StringBuilder();
+      // Format hundreds and return remainder
+      int withoutHundreds = (int) formatScale(number, HUNDRED, sb);
+      if (withoutHundreds > 0) {
+        sb.append(upToOneHundred(withoutHundreds));
+      }
+      return sb.toString().trim();
+    }
+  }
+
+  /**
+   * @param number number to convert
+   * @return the number in Lithuanian words
+   * @throws IllegalArgumentException if {@code number} is negative or greater than 99
+   */
+  private static String upToOneHundred(final int number) {
+    checkValueBetween(0, 99, number);
+    if (number < ZERO_TO_NINETEEN.length) {
+      return ZERO_TO_NINETEEN[number];
+    } else {
+      int tens = number / 10;
+      int last = number % 10;
+      if (last > 0) {
+        return TENS[tens] + ' ' + ZERO_TO_NINETEEN[last];
+      } else {
+        return TENS[tens];
+      }
+    }
+  }
+
+  /**
+   * Copy of {@code Scale.formForCount} as it was when this class was frozen.
+   *
+   * @param scale index of a scale
+   * @param count a count of this scale
+   * @return one of the forms of {@code scale}, depending on the value of {@code count}
+   */
+  private static String formForCount(int scale, int count) {
+    checkNotNegative(count);
+    int lastTwoDigits = count % 100;
+    int lastDigit = count % 10;
+    if (lastTwoDigits > 10 && lastTwoDigits < 20) {
+      // 11 to 19
+      return SCALE_FORMS[scale][2];
+    }
+    if (lastDigit == 0) {
+      // Shares form with 11-19
+      return SCALE_FORMS[scale][2];
+    }
+    if (lastDigit == 1) {
+      return SCALE_FORMS[scale][0];
+    }
+    return SCALE_FORMS[scale][1];
+  }
+
+}
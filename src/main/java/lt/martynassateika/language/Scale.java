@@ -54,11 +54,15 @@ enum Scale implements LongSupplier {
   // Plural form to use if count is between 11 and 19, or a multiple of 10
   final String pluralForm2;
 
+  // All of the above, selecting a form by count
+  final NounForms forms;
+
   Scale(long numericalValue, String singularForm, String pluralForm, String pluralForm2) {
     this.numericalValue = numericalValue;
     this.singularForm = singularForm;
     this.pluralForm = pluralForm;
     this.pluralForm2 = pluralForm2;
+    this.forms = NounForms.masculine(singularForm, pluralForm, pluralForm2);
   }
 
   /**
@@ -68,20 +72,7 @@ enum Scale implements LongSupplier {
    */
   String formForCount(int count) {
     checkNotNegative(count);
-    int lastTwoDigits = count % 100;
-    int lastDigit = count % 10;
-    if (lastTwoDigits > 10 && lastTwoDigits < 20) {
-      // 11 to 19
-      return pluralForm2;
-    }
-    if (lastDigit == 0) {
-      // Shares form with 11-19
-      return pluralForm2;
-    }
-    if (lastDigit == 1) {
-      return singularForm;
-    }
-    return pluralForm;
+    return forms.forCount(count);
   }
 
   /**
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static lt.martynassateika.language.NumberConverter.GROUP_SCALES;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Orders numbers alphabetically by their words, as written by {@link NumberConverter#create()},
+ * without writing the words.
+ *
+ * <pre>{@code
+ * List<Long> numbers = Arrays.asList(1L, 2L, 3L);
+ * numbers.sort(WordOrder.comparator());
+ * -> [2, 3, 1] ("du", "trys", "vienas")
+ * }</pre>
+ *
+ * <p>Words are compared one by one in Lithuanian alphabetical order, so a number whose words are
+ * a prefix of another's comes first ("devyni šimtai" before "devyniasdešimt"). This is the usual
+ * word-by-word order of dictionaries. A {@link java.text.Collator} applied to whole strings may
+ * differ, as it ignores spaces.</p>
+ *
+ * <p>Each number is reduced to the ranks of its words, which are looked up in tables prepared
+ * once. Numbers may be compared directly, or through sort keys computed once per number.</p>
+ *
+ * @author Martynas Sateika
+ * @since 1.1
+ */
+public final class WordOrder {
+
+  /**
+   * All words written by the default converter, in Lithuanian alphabetical order.
+   */
+  private static final String[] ALPHABETICAL_WORDS = {
+      "aštuoni",
+      "aštuoniasdešimt",
+      "aštuoniolika",
+      "dešimt",
+      "devyni",
+      "devyniasdešimt",
+      "devyniolika",
+      "du",
+      "dvidešimt",
+      "dvylika",
+      "keturi",
+      "keturiasdešimt",
+      "keturiolika",
+      "kvadrilijonai",
+      "kvadrilijonas",
+      "kvadrilijonų",
+      "kvintilijonai",
+      "kvintilijonas",
+      "kvintilijonų",
+      "milijardai",
+      "milijardas",
+      "milijardų",
+      "milijonai",
+      "milijonas",
+      "milijonų",
+      "minus",
+      "nulis",
+      "penki",
+      "penkiasdešimt",
+      "penkiolika",
+      "septyni",
+      "septyniasdešimt",
+      "septyniolika",
+      "šeši",
+      "šešiasdešimt",
+      "šešiolika",
+      "šimtai",
+      "šimtas",
+      "šimtų",
+      "trilijonai",
+      "trilijonas",
+      "trilijonų",
+      "trylika",
+      "trys",
+      "trisdešimt",
+      "tūkstančiai",
+      "tūkstančių",
+      "tūkstantis",
+      "vienas",
+      "vienuolika",
+  };
+
+  // Most words any long is written with: "minus", six groups of five words, three more words
+  // and the final "aštuoni" of Long.MIN_VALUE
+  private static final int MAX_WORDS = 36;
+
+  private static final byte MINUS_RANK = rank("minus");
+
+  /**
+   * Ranks of the words for numbers 0 to 19, indexed by number.
+   */
+  private static final byte[] ZERO_TO_NINETEEN_RANKS = new byte[20];
+
+  /**
+   * Ranks of the words for multiples of 10, indexed by the number of tens.
+   */
+  private static final byte[] TENS_RANKS = new byte[10];
+
+  /**
+   * Ranks of the agreeing form of "šimtas", indexed by the count of hundreds.
+   */
+  private static final byte[] HUNDRED_RANKS = new byte[10];
+
+  /**
+   * Ranks of the agreeing form of each scale in {@link NumberConverter#GROUP_SCALES}, indexed as
+   * {@code [scaleIndex][count % 100]}.
+   */
+  private static final byte[][] GROUP_SCALE_RANKS = new byte[GROUP_SCALES.length][100];
+
+  static {
+    for (int number = 0; number < ZERO_TO_NINETEEN_RANKS.length; number++) {
+      ZERO_TO_NINETEEN_RANKS[number] = rank(NumberConverter.zeroToNineteen(number));
+    }
+    for (int tens = 0; tens < TENS_RANKS.length; tens++) {
+      TENS_RANKS[tens] = rank(NumberConverter.tens(tens));
+    }
+    for (int count = 0; count < HUNDRED_RANKS.length; count++) {
+      HUNDRED_RANKS[count] = rank(Scale.HUNDRED.formForCount(count));
+    }
+    for (int i = 0; i < GROUP_SCALES.length; i++) {
+      for (int count = 0; count < 100; count++) {
+        GROUP_SCALE_RANKS[i][count] = rank(GROUP_SCALES[i].formForCount(count));
+      }
+    }
+  }
+
+  private static final Comparator<Long> COMPARATOR = (a, b) -> compare(a, b);
+
+  // Reused word buffers for compare(long, long)
+  private static final ThreadLocal<byte[][]> BUFFERS =
+      ThreadLocal.withInitial(() -> new byte[2][MAX_WORDS]);
+
+  private WordOrder() {
+  }
+
+  /**
+   * Returns a comparator ordering numbers alphabetically by their words.
+   *
+   * @return the comparator
+   */
+  public static Comparator<Long> comparator() {
+    return COMPARATOR;
+  }
+
+  /**
+   * Compares two numbers alphabetically by their words.
+   *
+   * @param a a number
+   * @param b another number
+   * @return a negative number, zero, or a positive number if the words of {@code a} come before,
+   * are equal to, or come after the words of {@code b}
+   */
+  public static int compare(long a, long b) {
+    if (a == b) {
+      return 0;
+    }
+    byte[][] buffers = BUFFERS.get();
+    int lengthA = ranksOf(a, buffers[0], 0);
+    int lengthB = ranksOf(b, buffers[1], 0);
+    return compare(buffers[0], lengthA, buffers[1], lengthB);
+  }
+
+  /**
+   * Returns a sort key for {@code number}.
+   *
+   * <p>Keys compared with {@link #compareSortKeys(byte[], byte[])} are in the same order as their
+   * numbers compared with {@link #compare(long, long)}. Each key holds one byte per word.</p>
+   *
+   * @param number a number
+   * @return sort key of the number
+   */
+  public static byte[] sortKey(long number) {
+    byte[] ranks = new byte[MAX_WORDS];
+    return Arrays.copyOf(ranks, ranksOf(number, ranks, 0));
+  }
+
+  /**
+   * Compares two sort keys returned by {@link #sortKey(long)}.
+   *
+   * @param a a sort key
+   * @param b another sort key
+   * @return a negative number, zero, or a positive number if {@code a} comes before, is equal to,
+   * or comes after {@code b}
+   */
+  public static int compareSortKeys(byte[] a, byte[] b) {
+    return compare(a, a.length, b, b.length);
+  }
+
+  private static int compare(byte[] a, int lengthA, byte[] b, int lengthB) {
+    int length = Math.min(lengthA, lengthB);
+    for (int i = 0; i < length; i++) {
+      if (a[i] != b[i]) {
+        return a[i] - b[i];
+      }
+    }
+    // All words so far are equal, so fewer words come first
+    return lengthA - lengthB;
+  }
+
+  /**
+   * Writes the ranks of the words of {@code number} to {@code ranks}, in the order the words are
+   * written by {@link NumberConverter}.
+   *
+   * @param number a number
+   * @param ranks array to write ranks to
+   * @param position index of the first rank to write
+   * @return index after the last written rank
+   */
+  private static int ranksOf(long number, byte[] ranks, int position) {
+    if (number == Long.MIN_VALUE) {
+      // -9223372036854775808
+      int end = ranksOf(-9223372036854775800L, ranks, position);
+      ranks[end] = ZERO_TO_NINETEEN_RANKS[8];
+      return end + 1;
+    }
+
+    long remainder = number;
+    if (remainder < 0) {
+      ranks[position++] = MINUS_RANK;
+      remainder = -remainder;
+    }
+
+    if (remainder == 0) {
+      ranks[position++] = ZERO_TO_NINETEEN_RANKS[0];
+      return position;
+    }
+
+    for (int i = 0; i < GROUP_SCALES.length; i++) {
+      long scaleValue = GROUP_SCALES[i].getAsLong();
+      if (remainder >= scaleValue) {
+        int count = (int) (remainder / scaleValue);
+        position = ranksOfUpToOneThousand(count, ranks, position);
+        ranks[position++] = GROUP_SCALE_RANKS[i][count % 100];
+        remainder -= count * scaleValue;
+      }
+    }
+    if (remainder > 0) {
+      position = ranksOfUpToOneThousand((int) remainder, ranks, position);
+    }
+    return position;
+  }
+
+  /**
+   * @param number a number from 1 to 999
+   * @param ranks array to write ranks to
+   * @param position index of the first rank to write
+   * @return index after the last written rank
+   */
+  private static int ranksOfUpToOneThousand(int number, byte[] ranks, int position) {
+    int hundreds = number / 100;
+    if (hundreds > 0) {
+      ranks[position++] = ZERO_TO_NINETEEN_RANKS[hundreds];
+      ranks[position++] = HUNDRED_RANKS[hundreds];
+    }
+    int withoutHundreds = number % 100;
+    if (withoutHundreds >= ZERO_TO_NINETEEN_RANKS.length) {
+      ranks[position++] = TENS_RANKS[withoutHundreds / 10];
+      if (withoutHundreds % 10 > 0) {
+        ranks[position++] = ZERO_TO_NINETEEN_RANKS[withoutHundreds % 10];
+      }
+    } else if (withoutHundreds > 0) {
+      ranks[position++] = ZERO_TO_NINETEEN_RANKS[withoutHundreds];
+    }
+    return position;
+  }
+
+  /**
+   * @param word a word written by the default converter
+   * @return position of the word in alphabetical order, starting from one
+   * @throws IllegalStateException if the word is not in {@link #ALPHABETICAL_WORDS}
+   */
+  private static byte rank(String word) {
+    for (int i = 0; i < ALPHABETICAL_WORDS.length; i++) {
+      if (ALPHABETICAL_WORDS[i].equals(word)) {
+        return (byte) (i + 1);
+      }
+    }
+    throw new IllegalStateException(String.format("no rank for word (%s)", word));
+  }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ConversionVerifier}.
+ *
+ * @author Martynas Sateika
+ */
+class ConversionVerifierTest {
+
+  @Test
+  void verifyRange_defaultEngines() {
+    ConversionVerifier.Report report = ConversionVerifier.create().verifyRange(-300_000, 300_000);
+    assertAll(
+        () -> assertTrue(report.passed(), report::toString),
+        () -> assertEquals(600_001, report.getChecked())
+    );
+  }
+
+  @Test
+  void verifyRange_longLimits() {
+    ConversionVerifier verifier = ConversionVerifier.create();
+    assertAll(
+        () -> assertTrue(verifier.verifyRange(Long.MIN_VALUE, Long.MIN_VALUE + 1_000).passed()),
+        () -> assertTrue(verifier.verifyRange(Long.MAX_VALUE - 1_000, Long.MAX_VALUE).passed())
+    );
+  }
+
+  @Test
+  void verifySample_defaultEngines() {
+    ConversionVerifier.Report report = ConversionVerifier.create().verifySample(200_000, 2018);
+    assertAll(
+        () -> assertTrue(report.passed(), report::toString),
+        () -> assertEquals(200_000, report.getChecked())
+    );
+  }
+
+  @Test
+  void verifyRange_reportsLowestMismatch() {
+    NumberConverter converter = NumberConverter.builder().omitLeadingOne(true).build();
+    ConversionVerifier.Report report = ConversionVerifier.builder()
+        .engine("omitLeadingOne", (number, sb) -> {
+          converter.appendLithuanian(number, sb);
+          return true;
+        })
+        .threads(4)
+        .build()
+        .verifyRange(0, 1_000_000);
+    ConversionVerifier.Mismatch mismatch = report.getFirstMismatch();
+    assertAll(
+        () -> assertFalse(report.passed()),
+        () -> assertEquals(100, mismatch.getNumber()),
+        () -> assertEquals("omitLeadingOne", mismatch.getEngine()),
+        () -> assertEquals("vienas šimtas", mismatch.getExpected()),
+        () -> assertEquals("šimtas", mismatch.getActual())
+    );
+  }
+
+  @Test
+  void verifyRange_skippedNumbers() {
+    ConversionVerifier.Report report = ConversionVerifier.builder()
+        .engine("never", (number, sb) -> false)
+        .build()
+        .verifyRange(0, 10);
+    assertAll(
+        () -> assertNull(report.getFirstMismatch()),
+        () -> assertEquals(11, report.getChecked())
+    );
+  }
+
+  @Test
+  void invalidArguments() {
+    ConversionVerifier verifier = ConversionVerifier.create();
+    assertThrows(IllegalArgumentException.class, () -> verifier.verifyRange(1, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> verifier.verifyRange(Long.MIN_VALUE, Long.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> verifier.verifySample(-1, 0));
+    assertThrows(IllegalArgumentException.class, () -> ConversionVerifier.builder().threads(0));
+  }
+
+}
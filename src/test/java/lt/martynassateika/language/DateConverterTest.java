@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DateConverter}.
+ *
+ * @author Martynas Sateika
+ */
+class DateConverterTest {
+
+  private DateConverter converter;
+
+  @BeforeEach
+  void setUp() {
+    converter = DateConverter.create();
+  }
+
+  @Test
+  void yearToLithuanian() {
+    assertAll(
+        () -> checkYear("pirmų metų", 1),
+        () -> checkYear("trečių metų", 3),
+        () -> checkYear("dvidešimtų metų", 20),
+        () -> checkYear("vienas šimtas dvidešimt pirmų metų", 121),
+        () -> checkYear("vienas tūkstantis devyni šimtai devyniasdešimt trečių metų", 1993),
+        () -> checkYear("du tūkstančiai aštuonioliktų metų", 2018),
+        () -> checkYear("du tūkstančiai dešimtų metų", 2010),
+        () -> checkYear("du tūkstančiai dvidešimt ketvirtų metų", 2024),
+        () -> checkYear("du tūkstančiai šimtųjų metų", 2100),
+        () -> checkYear("vienas tūkstantis devynšimtųjų metų", 1900),
+        () -> checkYear("penkšimtųjų metų", 500),
+        () -> checkYear("tūkstantųjų metų", 1000),
+        () -> checkYear("dutūkstantųjų metų", 2000)
+    );
+  }
+
+  @Test
+  void yearToLithuanian_outOfRange() {
+    assertThrows(IllegalArgumentException.class, () -> converter.yearToLithuanian(0));
+    assertThrows(IllegalArgumentException.class, () -> converter.yearToLithuanian(10_000));
+  }
+
+  @Test
+  void toLithuanian_date() {
+    assertAll(
+        () -> checkDate("du tūkstančiai aštuonioliktų metų rugpjūčio devynioliktą dieną",
+            2018, 8, 19),
+        () -> checkDate("dutūkstantųjų metų sausio pirmą dieną", 2000, 1, 1),
+        () -> checkDate("du tūkstančiai dvidešimt ketvirtų metų vasario dvidešimt devintą dieną",
+            2024, 2, 29),
+        () -> checkDate("du tūkstančiai dvidešimt šeštų metų gruodžio trisdešimt pirmą dieną",
+            2026, 12, 31),
+        () -> checkDate("du tūkstančiai dvidešimt šeštų metų gegužės dešimtą dieną",
+            2026, 5, 10)
+    );
+  }
+
+  @Test
+  void toLithuanian_numberConverterOptions() {
+    converter = DateConverter.create(
+        NumberConverter.builder().omitLeadingOne(true).separator("_").build());
+    assertAll(
+        () -> checkDate("tūkstantis_devyni_šimtai_devyniasdešimt_trečių_metų_kovo_trečią_dieną",
+            1993, 3, 3),
+        () -> checkYear("tūkstantis_devynšimtųjų_metų", 1900)
+    );
+  }
+
+  @Test
+  void toLithuanian_cached() {
+    String first = converter.toLithuanian(LocalDate.of(2018, 8, 19));
+    assertSame(first, converter.toLithuanian(LocalDate.of(2018, 8, 19)));
+    // A date in the same cache slot replaces the cached one
+    String other = converter.toLithuanian(LocalDate.of(2018, 8, 19).plusDays(64));
+    assertEquals(other, converter.toLithuanian(LocalDate.of(2018, 8, 19).plusDays(64)));
+    assertEquals(first, converter.toLithuanian(LocalDate.of(2018, 8, 19)));
+  }
+
+  @Test
+  void toLithuanian_outOfRange() {
+    assertThrows(IllegalArgumentException.class,
+        () -> converter.toLithuanian(LocalDate.of(10_000, 1, 1)));
+  }
+
+  private void checkYear(String expected, int year) {
+    assertEquals(expected, converter.yearToLithuanian(year));
+  }
+
+  private void checkDate(String expected, int year, int month, int day) {
+    assertEquals(expected, converter.toLithuanian(LocalDate.of(year, month, day)));
+  }
+
+}
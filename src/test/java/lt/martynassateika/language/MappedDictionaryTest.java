@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MappedDictionary}.
+ *
+ * @author Martynas Sateika
+ */
+class MappedDictionaryTest {
+
+  private NumberConverter converter;
+
+  private Path file;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    converter = NumberConverter.create();
+    file = Files.createTempFile("dictionary", ".bin");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  void lookup_inRange() throws IOException {
+    MappedDictionary.write(file, -20, 100_000, converter);
+    MappedDictionary dictionary = MappedDictionary.open(file);
+    for (long number = -20; number <= 100_000; number++) {
+      assertEquals(converter.toLithuanian(number), decode(dictionary.lookup(number)));
+    }
+  }
+
+  @Test
+  void lookup_readOnlyView() throws IOException {
+    MappedDictionary.write(file, 0, 10, converter);
+    ByteBuffer words = MappedDictionary.open(file).lookup(7);
+    assertAll(
+        () -> assertTrue(words.isReadOnly()),
+        () -> assertEquals(0, words.position()),
+        () -> assertEquals("septyni".getBytes(StandardCharsets.UTF_8).length, words.limit())
+    );
+  }
+
+  @Test
+  void lookup_outOfRangeFallsBack() throws IOException {
+    MappedDictionary.write(file, 10, 20, converter);
+    NumberConverter fallback = NumberConverter.builder().omitLeadingOne(true).build();
+    MappedDictionary dictionary = MappedDictionary.open(file, fallback);
+    assertAll(
+        () -> assertFalse(dictionary.contains(9)),
+        () -> assertTrue(dictionary.contains(10)),
+        () -> assertTrue(dictionary.contains(20)),
+        () -> assertFalse(dictionary.contains(21)),
+        () -> assertFalse(dictionary.contains(Long.MIN_VALUE)),
+        () -> assertFalse(dictionary.contains(Long.MAX_VALUE)),
+        () -> assertEquals("dešimt", decode(dictionary.lookup(10))),
+        () -> assertEquals("šimtas", decode(dictionary.lookup(100))),
+        () -> assertEquals(converter.toLithuanian(Long.MIN_VALUE),
+            decode(dictionary.lookup(Long.MIN_VALUE)))
+    );
+  }
+
+  @Test
+  void lookup_extremeRange() throws IOException {
+    MappedDictionary.write(file, Long.MAX_VALUE - 2, Long.MAX_VALUE, converter);
+    MappedDictionary dictionary = MappedDictionary.open(file);
+    assertAll(
+        () -> assertTrue(dictionary.contains(Long.MAX_VALUE)),
+        () -> assertFalse(dictionary.contains(Long.MIN_VALUE)),
+        () -> assertEquals(converter.toLithuanian(Long.MAX_VALUE),
+            decode(dictionary.lookup(Long.MAX_VALUE)))
+    );
+  }
+
+  @Test
+  void write_replacesMappedFile() throws IOException {
+    MappedDictionary.write(file, 0, 10_000, converter);
+    MappedDictionary old = MappedDictionary.open(file);
+    MappedDictionary.write(file, 100, 110, converter);
+    MappedDictionary replaced = MappedDictionary.open(file);
+    long filesWithSamePrefix;
+    try (Stream<Path> files = Files.list(file.toAbsolutePath().getParent())) {
+      // No temporary file is left behind
+      filesWithSamePrefix = files
+          .filter(p -> p.getFileName().toString().startsWith(file.getFileName().toString()))
+          .count();
+    }
+    assertAll(
+        // The old mapping still sees the file it was opened with
+        () -> assertEquals("devyni tūkstančiai", decode(old.lookup(9_000))),
+        () -> assertTrue(old.contains(10_000)),
+        () -> assertFalse(replaced.contains(10_000)),
+        () -> assertEquals(converter.toLithuanian(105), decode(replaced.lookup(105))),
+        () -> assertEquals(1, filesWithSamePrefix)
+    );
+  }
+
+  @Test
+  void write_defaultPermissions() throws IOException {
+    assumePosix();
+    Files.delete(file);
+    Path plain = file.resolveSibling(file.getFileName() + ".plain");
+    try {
+      Files.write(plain, new byte[0]);
+      MappedDictionary.write(file, 0, 10, converter);
+      assertEquals(Files.getPosixFilePermissions(plain), Files.getPosixFilePermissions(file));
+    } finally {
+      Files.deleteIfExists(plain);
+    }
+  }
+
+  @Test
+  void write_keepsPermissionsOfReplacedFile() throws IOException {
+    assumePosix();
+    Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+    Files.setPosixFilePermissions(file, permissions);
+    MappedDictionary.write(file, 0, 10, converter);
+    assertEquals(permissions, Files.getPosixFilePermissions(file));
+  }
+
+  @Test
+  void write_invalidRange() {
+    assertThrows(IllegalArgumentException.class,
+        () -> MappedDictionary.write(file, 1, 0, converter));
+    assertThrows(IllegalArgumentException.class,
+        () -> MappedDictionary.write(file, 0, Integer.MAX_VALUE, converter));
+    // One number more than the offsets of a 2 GB file can describe
+    assertThrows(IllegalArgumentException.class,
+        () -> MappedDictionary.write(file, 1, 536_870_906, converter));
+  }
+
+  @Test
+  void open_notADictionary() throws IOException {
+    Files.write(file, "nulis".getBytes(StandardCharsets.UTF_8));
+    assertThrows(IOException.class, () -> MappedDictionary.open(file));
+  }
+
+  private void assumePosix() {
+    assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null,
+        "POSIX permissions not supported");
+  }
+
+  private static String decode(ByteBuffer words) {
+    return StandardCharsets.UTF_8.decode(words).toString();
+  }
+
+}
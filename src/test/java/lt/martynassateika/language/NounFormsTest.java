@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link NounForms}.
+ *
+ * @author Martynas Sateika
+ */
+class NounFormsTest {
+
+  private final NounForms days = NounForms.feminine("diena", "dienos", "dienų");
+
+  @Test
+  void forCount_nonNegative() {
+    assertAll(
+        () -> assertString("dienų", 0),
+        () -> assertString("diena", 1),
+        () -> assertString("dienos", 2),
+        () -> assertString("dienos", 9),
+        () -> assertString("dienų", 10),
+        () -> assertString("dienų", 11),
+        () -> assertString("dienų", 19),
+        () -> assertString("dienų", 20),
+        () -> assertString("diena", 21),
+        () -> assertString("dienos", 22),
+        () -> assertString("dienų", 100),
+        () -> assertString("diena", 101),
+        () -> assertString("dienų", 111),
+        () -> assertString("dienų", 1_000_000_000_000L),
+        () -> assertString("dienos", Long.MAX_VALUE) // ends with 7
+    );
+  }
+
+  @Test
+  void forCount_negative() {
+    assertAll(
+        () -> assertString("diena", -1),
+        () -> assertString("dienos", -2),
+        () -> assertString("dienų", -12),
+        () -> assertString("diena", -21),
+        () -> assertString("dienos", Long.MIN_VALUE) // ends with 8
+    );
+  }
+
+  @Test
+  void gender() {
+    assertTrue(days.isFeminine());
+    assertFalse(NounForms.masculine("vienetas", "vienetai", "vienetų").isFeminine());
+  }
+
+  @Test
+  void nullForms() {
+    assertThrows(NullPointerException.class, () -> NounForms.masculine(null, "a", "b"));
+    assertThrows(NullPointerException.class, () -> NounForms.feminine("a", null, "b"));
+    assertThrows(NullPointerException.class, () -> NounForms.feminine("a", "b", null));
+  }
+
+  // Displays input next to error message in JUnit's output
+  private void assertString(String expected, long input) {
+    assertEquals(expected, days.forCount(input), String.valueOf(input));
+  }
+
+}
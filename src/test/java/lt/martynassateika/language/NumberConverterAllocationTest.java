@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * Allocation budgets for {@link NumberConverter}.
+ *
+ * <p>Each check converts a value many times on the current thread and compares the average number
+ * of bytes the thread allocated per conversion against a budget. Budgets are upper bounds with
+ * some headroom, so that they catch new allocations rather than JVM-specific noise. The checks are
+ * skipped on JVMs without per-thread allocation counters.</p>
+ *
+ * @author Martynas Sateika
+ */
+class NumberConverterAllocationTest {
+
+  private static final int WARM_UP_ITERATIONS = 20_000;
+
+  private static final int MEASURED_ITERATIONS = 20_000;
+
+  private static com.sun.management.ThreadMXBean threadBean;
+
+  // Keeps conversion results reachable so they cannot be optimized away
+  private static volatile Object sink;
+
+  private NumberConverter converter;
+
+  /**
+   * Magnitude classes with a separate budget, each represented by one value.
+   */
+  private enum Magnitude {
+
+    ZERO_TO_NINETEEN(19),
+
+    THREE_DIGITS(123),
+
+    SEVEN_DIGITS(1_234_567),
+
+    LONG_MAX(Long.MAX_VALUE),
+
+    LONG_MIN(Long.MIN_VALUE);
+
+    private final long value;
+
+    // Digits of the value without a sign, for digit-group reading
+    private final String digits;
+
+    Magnitude(long value) {
+      this.value = value;
+      this.digits = Long.toString(value).replace("-", "");
+    }
+
+  }
+
+  @BeforeAll
+  static void setUpThreadBean() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean,
+        "per-thread allocation counters not available");
+    threadBean = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(threadBean.isThreadAllocatedMemorySupported(),
+        "per-thread allocation counters not supported");
+    threadBean.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  @BeforeEach
+  void setUp() {
+    converter = NumberConverter.create();
+  }
+
+  @Test
+  void toLithuanian() {
+    // Numbers up to 999 are served from the pre-compiled table
+    checkBudgets(magnitude -> converter.toLithuanian(magnitude.value), 0, 0, 1_536, 3_072, 3_072);
+  }
+
+  @Test
+  void toLithuanian_withNoun() {
+    NounForms days = NounForms.feminine("diena", "dienos", "dienų");
+    checkBudgets(magnitude -> converter.toLithuanian(magnitude.value, days), 512, 768, 1_536, 3_072, 3_072);
+  }
+
+  @Test
+  void appendLithuanian() {
+    // Appending to a builder with enough capacity must not allocate at all
+    StringBuilder sb = new StringBuilder(512);
+    checkBudgets(magnitude -> {
+      sb.setLength(0);
+      return converter.appendLithuanian(magnitude.value, sb);
+    }, 0, 0, 0, 0, 0);
+  }
+
+  @Test
+  void appendLithuanian_withNoun() {
+    NounForms days = NounForms.feminine("diena", "dienos", "dienų");
+    StringBuilder sb = new StringBuilder(512);
+    checkBudgets(magnitude -> {
+      sb.setLength(0);
+      return converter.appendLithuanian(magnitude.value, days, sb);
+    }, 0, 0, 0, 0, 0);
+  }
+
+  @Test
+  void toLithuanianDigits() {
+    checkBudgets(magnitude -> converter.toLithuanianDigits(magnitude.digits), 256, 640, 1_280, 3_072, 3_072);
+  }
+
+  /**
+   * Checks that {@code conversion} stays within its budget for every {@link Magnitude}.
+   *
+   * @param conversion conversion to measure
+   * @param budgets maximum average bytes per call, in the order of {@link Magnitude#values()}
+   */
+  private static void checkBudgets(Function<Magnitude, Object> conversion, long... budgets) {
+    Magnitude[] magnitudes = Magnitude.values();
+    Executable[] checks = new Executable[magnitudes.length];
+    for (Magnitude magnitude : magnitudes) {
+      long budget = budgets[magnitude.ordinal()];
+      checks[magnitude.ordinal()] = () -> {
+        long allocated = bytesPerCall(conversion, magnitude);
+        assertTrue(allocated <= budget, () -> String.format(
+            "%s: %d bytes allocated per call, budget is %d", magnitude, allocated, budget));
+      };
+    }
+    assertAll(checks);
+  }
+
+  /**
+   * @param conversion conversion to measure
+   * @param magnitude magnitude class to convert
+   * @return average number of bytes allocated by one call of {@code conversion}
+   */
+  private static long bytesPerCall(Function<Magnitude, Object> conversion, Magnitude magnitude) {
+    for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+      sink = conversion.apply(magnitude);
+    }
+    long threadId = Thread.currentThread().getId();
+    long before = threadBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      sink = conversion.apply(magnitude);
+    }
+    long after = threadBean.getThreadAllocatedBytes(threadId);
+    return (after - before) / MEASURED_ITERATIONS;
+  }
+
+}
@@ -18,6 +18,8 @@ package lt.martynassateika.language;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -286,6 +288,155 @@ class NumberConverterTest {
     );
   }
 
+  @Test
+  void builder_defaultsMatchCreate() {
+    NumberConverter built = NumberConverter.builder().build();
+    assertAll(
+        () -> assertEquals(converter.toLithuanian(123), built.toLithuanian(123)),
+        () -> assertEquals(converter.toLithuanian(-1993), built.toLithuanian(-1993)),
+        () -> assertEquals(converter.toLithuanian(Long.MIN_VALUE), built.toLithuanian(Long.MIN_VALUE))
+    );
+  }
+
+  @Test
+  void create_sharedInstance() {
+    assertSame(NumberConverter.create(), NumberConverter.create());
+  }
+
+  @Test
+  void builder_omitLeadingOne() {
+    converter = NumberConverter.builder().omitLeadingOne(true).build();
+    assertAll(
+        () -> check("vienas", 1),
+        () -> check("šimtas", 100),
+        () -> check("šimtas dvidešimt trys", 123),
+        () -> check("du šimtai", 200),
+        () -> check("tūkstantis", 1_000),
+        () -> check("tūkstantis šimtas vienas", 1_101),
+        () -> check("dvidešimt vienas tūkstantis", 21_000),
+        () -> check("šimtas vienas tūkstantis", 101_000),
+        () -> check("šimtas tūkstančių", 100_000),
+        () -> check("milijonas tūkstantis vienas", 1_001_001),
+        () -> check("minus šimtas", -100)
+    );
+  }
+
+  @Test
+  void builder_minusWordAndSeparator() {
+    converter = NumberConverter.builder().minusWord("neigiamas").separator("_").build();
+    assertAll(
+        () -> check("nulis", 0),
+        () -> check("neigiamas_penki", -5),
+        () -> check("vienas_šimtas_dvidešimt_trys", 123),
+        () -> check("vienas_milijonas_vienas", 1_000_001),
+        () -> check(
+            "neigiamas_devyni_kvintilijonai_du_šimtai_dvidešimt_trys_kvadrilijonai_trys_šimtai_septyniasdešimt_du_trilijonai_trisdešimt_šeši_milijardai_aštuoni_šimtai_penkiasdešimt_keturi_milijonai_septyni_šimtai_septyniasdešimt_penki_tūkstančiai_aštuoni_šimtai_aštuoni",
+            Long.MIN_VALUE)
+    );
+  }
+
+  @Test
+  void builder_nullOptions() {
+    assertThrows(NullPointerException.class, () -> NumberConverter.builder().minusWord(null));
+    assertThrows(NullPointerException.class, () -> NumberConverter.builder().separator(null));
+  }
+
+  @Test
+  void toLithuanianDigits_groupsAsWritten() {
+    assertAll(
+        () -> assertEquals("", converter.toLithuanianDigits("")),
+        () -> assertEquals("nulis", converter.toLithuanianDigits("0")),
+        () -> assertEquals("nulis nulis", converter.toLithuanianDigits("00")),
+        () -> assertEquals("nulis septyni šimtai", converter.toLithuanianDigits("0700")),
+        () -> assertEquals(
+            "LT dvylika vienas tūkstantis nulis vienas šimtas vienuolika nulis vienas šimtas vienas tūkstantis",
+            converter.toLithuanianDigits("LT12 1000 0111 0100 1000")),
+        () -> assertEquals("trys šimtai septyniasdešimt šeši šimtai dvylika",
+            converter.toLithuanianDigits("+370  612\t")),
+        () -> assertEquals(
+            "trys šimtai septyniasdešimt šeši šimtai dvylika tūkstančių trys šimtai keturiasdešimt penki",
+            converter.toLithuanianDigits("+370-600-12345")),
+        () -> assertEquals("penki šeši septyni aštuoni devyni",
+            converter.toLithuanianDigits("(5)6.7/8-9")),
+        () -> assertEquals("nulis vienas šimtas dvidešimt trys AB",
+            converter.toLithuanianDigits("0123/AB"))
+    );
+  }
+
+  @Test
+  void toLithuanianDigits_fixedGroupSize() {
+    assertAll(
+        () -> assertEquals("LT dvylika dešimt nulis nulis nulis vienas vienuolika",
+            converter.toLithuanianDigits("LT12 1000 0111", 2)),
+        () -> assertEquals("vienas du trys", converter.toLithuanianDigits("123", 1)),
+        () -> assertEquals("dvylika trisdešimt keturi penki",
+            converter.toLithuanianDigits("12345", 2)),
+        () -> assertEquals("nulis nulis nulis vienas šimtas dvidešimt trys",
+            converter.toLithuanianDigits("000123", 6))
+    );
+  }
+
+  @Test
+  void toLithuanianDigits_longerThanLong() {
+    String digits = "1234567890123456789012345";
+    assertEquals(
+        converter.toLithuanian(123_456_789_012_345_678L) + ' '
+            + converter.toLithuanian(9_012_345L),
+        converter.toLithuanianDigits(digits));
+  }
+
+  @Test
+  void toLithuanianDigits_invalidGroupSize() {
+    assertThrows(IllegalArgumentException.class, () -> converter.toLithuanianDigits("1", 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> converter.toLithuanianDigits("1", NumberConverter.MAX_DIGIT_GROUP + 1));
+  }
+
+  @Test
+  void toLithuanian_masculineNoun() {
+    NounForms units = NounForms.masculine("vienetas", "vienetai", "vienetų");
+    assertAll(
+        () -> assertEquals("nulis vienetų", converter.toLithuanian(0, units)),
+        () -> assertEquals("vienas vienetas", converter.toLithuanian(1, units)),
+        () -> assertEquals("dvidešimt du vienetai", converter.toLithuanian(22, units)),
+        () -> assertEquals("vienas tūkstantis vienetų", converter.toLithuanian(1000, units)),
+        () -> assertEquals("minus vienuolika vienetų", converter.toLithuanian(-11, units)),
+        () -> assertEquals(converter.toLithuanian(Long.MAX_VALUE) + " vienetai",
+            converter.toLithuanian(Long.MAX_VALUE, units))
+    );
+  }
+
+  @Test
+  void toLithuanian_feminineNoun() {
+    NounForms days = NounForms.feminine("diena", "dienos", "dienų");
+    assertAll(
+        () -> assertEquals("nulis dienų", converter.toLithuanian(0, days)),
+        () -> assertEquals("viena diena", converter.toLithuanian(1, days)),
+        () -> assertEquals("dvi dienos", converter.toLithuanian(2, days)),
+        () -> assertEquals("keturios dienos", converter.toLithuanian(4, days)),
+        () -> assertEquals("dvylika dienų", converter.toLithuanian(12, days)),
+        () -> assertEquals("dvidešimt viena diena", converter.toLithuanian(21, days)),
+        () -> assertEquals("du šimtai trisdešimt devynios dienos",
+            converter.toLithuanian(239, days)),
+        () -> assertEquals("vienas tūkstantis dvi dienos", converter.toLithuanian(1002, days)),
+        () -> assertEquals("du tūkstančiai dienų", converter.toLithuanian(2000, days)),
+        () -> assertEquals("minus viena diena", converter.toLithuanian(-1, days)),
+        () -> assertEquals(
+            converter.toLithuanian(-9223372036854775800L) + " aštuonios dienos",
+            converter.toLithuanian(Long.MIN_VALUE, days))
+    );
+  }
+
+  @Test
+  void appendLithuanian() {
+    NounForms days = NounForms.feminine("diena", "dienos", "dienų");
+    StringBuilder sb = new StringBuilder("Liko ");
+    converter.appendLithuanian(3, days, sb).append(", ");
+    converter.appendLithuanian(-1993, sb);
+    assertEquals("Liko trys dienos, minus vienas tūkstantis devyni šimtai devyniasdešimt trys",
+        sb.toString());
+  }
+
   private void check(String expected, long number) {
     assertEquals(expected, converter.toLithuanian(number));
   }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.language;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link WordOrder}.
+ *
+ * @author Martynas Sateika
+ */
+class WordOrderTest {
+
+  private static final Locale LITHUANIAN = new Locale("lt");
+
+  private final NumberConverter converter = NumberConverter.create();
+
+  @Test
+  void compare_examples() {
+    assertAll(
+        () -> assertEquals(0, WordOrder.compare(5, 5)),
+        () -> assertTrue(WordOrder.compare(2, 3) < 0), // du < trys
+        () -> assertTrue(WordOrder.compare(3, 1) < 0), // trys < vienas
+        () -> assertTrue(WordOrder.compare(8, 80) < 0), // aštuoni < aštuoniasdešimt
+        () -> assertTrue(WordOrder.compare(900, 90) < 0), // devyni šimtai < devyniasdešimt
+        () -> assertTrue(WordOrder.compare(-1, 0) < 0), // minus vienas < nulis
+        () -> assertTrue(WordOrder.compare(7, 6) < 0), // septyni < šeši
+        // "... septyni" < "... šeši"
+        () -> assertTrue(WordOrder.compare(Long.MAX_VALUE, Long.MAX_VALUE - 1) < 0),
+        () -> assertTrue(WordOrder.compare(Long.MIN_VALUE, -1) < 0)
+    );
+  }
+
+  @Test
+  void comparator_matchesWordByWordCollation() {
+    assumeTrue(Arrays.asList(Collator.getAvailableLocales()).contains(LITHUANIAN),
+        "Lithuanian collation not available");
+    List<Long> numbers = new ArrayList<>();
+    for (long number = -1_100; number <= 1_100; number++) {
+      numbers.add(number);
+    }
+    SplittableRandom random = new SplittableRandom(2018);
+    for (int i = 0; i < 5_000; i++) {
+      numbers.add(random.nextLong());
+      numbers.add(random.nextLong(10_000_000));
+    }
+    numbers.add(Long.MIN_VALUE);
+    numbers.add(Long.MAX_VALUE);
+
+    List<Long> expected = new ArrayList<>(numbers);
+    expected.sort(wordByWordCollation());
+    List<Long> actual = new ArrayList<>(numbers);
+    actual.sort(WordOrder.comparator());
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void sortKeys_matchCompare() {
+    SplittableRandom random = new SplittableRandom(2018);
+    for (int i = 0; i < 10_000; i++) {
+      long a = i % 2 == 0 ? random.nextLong() : random.nextLong(-100_000, 100_000);
+      long b = i % 3 == 0 ? random.nextLong() : random.nextLong(-100_000, 100_000);
+      assertEquals(Integer.signum(WordOrder.compare(a, b)),
+          Integer.signum(WordOrder.compareSortKeys(WordOrder.sortKey(a), WordOrder.sortKey(b))),
+          a + " vs " + b);
+    }
+  }
+
+  @Test
+  void sortKey_oneBytePerWord() {
+    assertAll(
+        () -> assertEquals(1, WordOrder.sortKey(0).length),
+        () -> assertEquals(4, WordOrder.sortKey(123).length),
+        () -> assertEquals(
+            converter.toLithuanian(Long.MIN_VALUE).split(" ").length,
+            WordOrder.sortKey(Long.MIN_VALUE).length)
+    );
+  }
+
+  /**
+   * Orders numbers by writing them and comparing the words one by one with a Lithuanian {@link
+   * Collator}.
+   */
+  private Comparator<Long> wordByWordCollation() {
+    Collator collator = Collator.getInstance(LITHUANIAN);
+    return (a, b) -> {
+      String[] wordsA = converter.toLithuanian(a).split(" ");
+      String[] wordsB = converter.toLithuanian(b).split(" ");
+      for (int i = 0; i < Math.min(wordsA.length, wordsB.length); i++) {
+        int result = collator.compare(wordsA[i], wordsB[i]);
+        if (result != 0) {
+          return result;
+        }
+      }
+      return wordsA.length - wordsB.length;
+    };
+  }
+
+}